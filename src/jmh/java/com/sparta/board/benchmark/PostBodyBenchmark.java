@@ -0,0 +1,84 @@
+package com.sparta.board.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.board.cache.PostBody;
+import com.sparta.board.cache.PostBodyCache;
+import com.sparta.board.cache.PostSnapshot;
+import com.sparta.board.config.PostBodyCacheProperties;
+import com.sparta.board.dto.response.PostResponse;
+import com.sparta.board.entity.Post;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 단건 조회 응답 본문 준비 비용 (요청 1건 기준)
+ * 캐시가 없을 때의 PostResponse 변환 + Jackson 직렬화(+ gzip)와 캐시된 바이트 조회를 비교한다.
+ * 요청당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 확인한다.
+ * ./gradlew jmh -Pjmh.includes=PostBodyBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostBodyBenchmark {
+
+    // 게시글 내용 길이(문자 수), gzip 압축본은 2048 바이트 이상일 때만 만든다.
+    @Param({"200", "4000"})
+    private int contentLength;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private Post post;
+    private PostBodyCache cache;
+    private PostSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        post = Post.of("testName", "{bcrypt}$2a$10$abcdefghijklmnopqrstuu", "testTitle", "가".repeat(contentLength));
+        ReflectionTestUtils.setField(post, "id", 1L);
+        ReflectionTestUtils.setField(post, "createdDateTime", LocalDateTime.of(2023, 11, 1, 12, 0, 0));
+        ReflectionTestUtils.setField(post, "modifiedDateTime", LocalDateTime.of(2023, 11, 2, 12, 0, 0));
+
+        cache = new PostBodyCache(
+                new PostBodyCacheProperties(true, 1000, Duration.ofHours(1), 2048), objectMapper, new SimpleMeterRegistry()
+        );
+        snapshot = new PostSnapshot(PostResponse.from(post), 0);
+        cache.getOrLoad(1L, () -> snapshot, PostBodyBenchmark::views);
+    }
+
+    // 캐시 없이 매 요청 변환, 직렬화
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(PostResponse.from(post));
+    }
+
+    // 캐시 없이 매 요청 변환, 직렬화, gzip 압축 (server.compression 과 같은 작업)
+    @Benchmark
+    public PostBody serializeAndGzip() throws JsonProcessingException {
+        PostResponse response = PostResponse.from(post);
+        return PostBody.of(objectMapper.writeValueAsBytes(response), response.lastModifiedDateTime(), 0);
+    }
+
+    // 캐시된 본문 바이트 조회
+    @Benchmark
+    public PostBody cached() {
+        return cache.getOrLoad(1L, () -> snapshot, PostBodyBenchmark::views);
+    }
+
+    // 측정 중에는 조회수가 반영되지 않은 상태 (본문을 다시 만들지 않는다.)
+    private static long views(PostSnapshot snapshot) {
+        return snapshot.post().views();
+    }
+}
@@ -0,0 +1,79 @@
+package com.sparta.board.benchmark;
+
+import com.sparta.board.config.AppConfig;
+import com.sparta.board.config.PasswordProperties;
+import com.sparta.board.dto.request.PostRequest;
+import com.sparta.board.entity.Post;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 작성 요청 처리 비용
+ * toEntity 는 애플리케이션과 같은 방식(AppConfig)으로 만든 PasswordEncoder 를 사용하며 bcrypt 비용이 대부분이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class PostRequestBenchmark {
+
+    // 0 이면 애플리케이션 기본 설정처럼 목표 시간(50ms)에 맞춰 측정한 작업 비용 사용
+    @Param({"0", "10"})
+    private int fixedStrength;
+
+    private final PostRequest validRequest = PostRequest.of("testName", "testPassword", "testTitle", "testContent");
+    private final PostRequest invalidRequest = PostRequest.of("t", "pw", " ", "testContent");
+
+    private PasswordEncoder passwordEncoder;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    @Setup
+    public void setUp() {
+        PasswordProperties properties = new PasswordProperties(
+                new PasswordProperties.Hashing(0, 256),
+                new PasswordProperties.Strength(Duration.ofMillis(50), 8, 14, fixedStrength),
+                new PasswordProperties.VerifiedCache(true, 10000, Duration.ofSeconds(30))
+        );
+        passwordEncoder = new AppConfig().passwordEncoder(properties);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Post toEntity() {
+        return validRequest.toEntity(passwordEncoder);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Set<ConstraintViolation<PostRequest>> validateValid() {
+        return validator.validate(validRequest);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Set<ConstraintViolation<PostRequest>> validateInvalid() {
+        return validator.validate(invalidRequest);
+    }
+}
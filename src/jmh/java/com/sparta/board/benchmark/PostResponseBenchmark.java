@@ -0,0 +1,70 @@
+package com.sparta.board.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.board.dto.response.PostResponse;
+import com.sparta.board.entity.Post;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 size 개의 응답 변환(PostResponse.from)과 Jackson 직렬화 비용
+ * 직렬화는 @JsonFormat(timezone = "Asia/Seoul") 날짜 포맷을 포함하며,
+ * ObjectMapper 는 스프링 부트 기본 설정과 같은 Jackson2ObjectMapperBuilder 로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostResponseBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int size;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<Post> posts;
+    private List<PostResponse> responses;
+
+    @Setup
+    public void setUp() {
+        posts = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            posts.add(createPost(id));
+        }
+        responses = from();
+    }
+
+    @Benchmark
+    public List<PostResponse> from() {
+        List<PostResponse> converted = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            converted.add(PostResponse.from(post));
+        }
+        return converted;
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    private static Post createPost(Long id) {
+        Post post = Post.of("testName", "{bcrypt}$2a$10$abcdefghijklmnopqrstuu", "testTitle " + id, "testContent ".repeat(20));
+        ReflectionTestUtils.setField(post, "id", id);
+        ReflectionTestUtils.setField(post, "createdDateTime", LocalDateTime.of(2023, 11, 1, 12, 0, 0));
+        ReflectionTestUtils.setField(post, "modifiedDateTime", LocalDateTime.of(2023, 11, 2, 12, 0, 0));
+        return post;
+    }
+}
@@ -0,0 +1,94 @@
+package com.sparta.board.benchmark;
+
+import com.sparta.board.cache.PostBody;
+import com.sparta.board.cache.PostBodyCache;
+import com.sparta.board.config.PostBodyCacheProperties;
+import com.sparta.board.config.PostViewProperties;
+import com.sparta.board.dto.response.PostResponse;
+import com.sparta.board.service.PostViewCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 단건 조회 경로(PostService.getPostBody, recordView)에 조회수 카운터를 더했을 때의 처리량 비교
+ * baseline: 본문 캐시 조회만, counted: 본문 캐시 조회(반영된 조회수 확인) + 조회수 증가,
+ * sharedAtomic: 게시글별 카운터 대신 하나의 AtomicLong 에 경합하는 경우 (비교용)
+ * ./gradlew jmh -Pjmh.includes=PostViewCounterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class PostViewCounterBenchmark {
+
+    // 1 이면 모든 스레드가 같은 게시글을 조회 (최대 경합)
+    @Param({"1", "1000"})
+    private int hotPosts;
+
+    private PostBodyCache cache;
+    private PostViewCounter counter;
+    private final AtomicLong sharedCounter = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        cache = new PostBodyCache(
+                new PostBodyCacheProperties(true, 10_000, Duration.ofHours(1), 2048),
+                Jackson2ObjectMapperBuilder.json().build(),
+                new SimpleMeterRegistry()
+        );
+        // 측정 중에는 반영하지 않도록 반영 주기를 길게 설정 (DB 없이 실행, 종료 시 반영하지 않는다.)
+        counter = new PostViewCounter(
+                new JdbcTemplate(),
+                new TransactionTemplate(),
+                cache,
+                new PostViewProperties(Duration.ofHours(1))
+        );
+        for (long id = 1; id <= hotPosts; id++) {
+            long postId = id;
+            cache.getOrLoad(postId, () -> counter.load(postId, () -> new PostResponse(
+                    postId, "name", "title", "content", 0, LocalDateTime.now(), LocalDateTime.now()
+            )), counter::flushedViews);
+        }
+    }
+
+    @Benchmark
+    public PostBody baseline() {
+        return cache.getOrLoad(nextPostId(), () -> null, snapshot -> snapshot.post().views());
+    }
+
+    @Benchmark
+    public PostBody counted() {
+        Long postId = nextPostId();
+        PostBody body = cache.getOrLoad(postId, () -> null, counter::flushedViews);
+        counter.increment(postId);
+        return body;
+    }
+
+    @Benchmark
+    public PostBody sharedAtomic() {
+        PostBody body = cache.getOrLoad(nextPostId(), () -> null, snapshot -> snapshot.post().views());
+        sharedCounter.incrementAndGet();
+        return body;
+    }
+
+    private Long nextPostId() {
+        return ThreadLocalRandom.current().nextLong(1, hotPosts + 1);
+    }
+}
@@ -0,0 +1,37 @@
+package com.sparta.board.loadtest;
+
+/**
+ * 부하 테스트 대상 게시글 API
+ */
+public enum Endpoint {
+    LIST("list", "GET /api/posts"),
+    GET("get", "GET /api/posts/{postId}"),
+    CREATE("create", "POST /api/posts"),
+    UPDATE("update", "PUT /api/posts/{postId}"),
+    DELETE("delete", "DELETE /api/posts/{postId}");
+
+    private final String key;
+    private final String description;
+
+    Endpoint(String key, String description) {
+        this.key = key;
+        this.description = description;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public String description() {
+        return description;
+    }
+
+    public static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equals(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 요청 종류입니다: " + key);
+    }
+}
@@ -0,0 +1,276 @@
+package com.sparta.board.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.board.AnonymousBoardApplication;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 API 부하 테스트
+ * 애플리케이션을 loadtest 프로필(H2 MySQL 모드)로 같은 프로세스에 띄우고, 게시글 API 5개에 요청을 섞어 보낸 뒤
+ * 요청 종류별 처리량과 p50/p95/p99/p999 지연시간을 출력한다. 외부 DB, 네트워크 없이 한 대에서 실행된다.
+ * --max-p99, --max-error-rate 기준을 넘으면 종료 코드 1로 끝나므로 배포 전 검사에 사용할 수 있다.
+ *
+ * ./gradlew loadTest -Pargs="--duration=60 --concurrency=128 --mix=list:60,get:30,create:5,update:3,delete:2 --max-p99=200"
+ */
+public class LoadTest {
+    private static final String PASSWORD = "loadtest";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final String baseUrl;
+    private final List<Long> seededPostIds = new ArrayList<>();
+    // 부하 테스트 중 작성된 게시글, 삭제 요청 대상
+    private final Queue<Long> createdPostIds = new ConcurrentLinkedQueue<>();
+
+    private final Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+
+    LoadTest(LoadTestOptions options, String baseUrl) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(Math.max(4, options.concurrency() / 8)))
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new Recorder(3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        boolean passed;
+        if (options.target() != null) {
+            passed = new LoadTest(options, options.target() + "/api/posts").run();
+        } else {
+            try (ConfigurableApplicationContext context = startApplication(options)) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                passed = new LoadTest(options, "http://localhost:" + port + "/api/posts").run();
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestOptions options) {
+        List<String> appArgs = new ArrayList<>(List.of(
+                "--spring.profiles.active=loadtest",
+                "--server.port=0"
+        ));
+        appArgs.addAll(List.of(options.springArgs()));
+        return SpringApplication.run(AnonymousBoardApplication.class, appArgs.toArray(String[]::new));
+    }
+
+    boolean run() throws Exception {
+        System.out.printf("게시글 %d개 작성 중...%n", options.seedPosts());
+        for (int i = 0; i < options.seedPosts(); i++) {
+            seededPostIds.add(create("seed title " + i).postId());
+        }
+
+        System.out.printf("워밍업 %ds, 측정 %ds, 동시 요청 %d, 비율 %s%n", options.warmup().toSeconds(),
+                options.duration().toSeconds(), options.concurrency(), options.mix());
+        drive(options.warmup());
+        // 워밍업 구간 기록 제거
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+
+        long start = System.nanoTime();
+        drive(options.duration());
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        return report(elapsedSeconds);
+    }
+
+    private void drive(Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < options.concurrency(); i++) {
+                futures.add(workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        send(options.nextEndpoint());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void send(Endpoint endpoint) {
+        Long deletablePostId = null;
+        if (endpoint == Endpoint.DELETE) {
+            deletablePostId = createdPostIds.poll();
+            // 지울 게시글이 없으면 작성 요청으로 대신한다.
+            if (deletablePostId == null) {
+                endpoint = Endpoint.CREATE;
+            }
+        }
+
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            success = switch (endpoint) {
+                case LIST -> get(URI.create(baseUrl));
+                case GET -> get(URI.create(baseUrl + "/" + randomSeededPostId()));
+                case CREATE -> {
+                    Created created = create("loadtest title");
+                    if (created.postId() != null) {
+                        createdPostIds.add(created.postId());
+                    }
+                    yield created.success();
+                }
+                case UPDATE -> update(randomSeededPostId());
+                case DELETE -> delete(deletablePostId);
+            };
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        recorders.get(endpoint).recordValue(System.nanoTime() - start);
+        if (!success) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    private boolean get(URI uri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        return isSuccess(client.send(request, HttpResponse.BodyHandlers.discarding()));
+    }
+
+    private Created create(String title) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                jsonRequest(URI.create(baseUrl), "POST", body(title)),
+                HttpResponse.BodyHandlers.ofString()
+        );
+        if (!isSuccess(response)) {
+            return new Created(false, null);
+        }
+        return new Created(true, OBJECT_MAPPER.readTree(response.body()).get("id").asLong());
+    }
+
+    private boolean update(Long postId) throws IOException, InterruptedException {
+        HttpRequest request = jsonRequest(URI.create(baseUrl + "/" + postId), "PUT", body("updated title"));
+        return isSuccess(client.send(request, HttpResponse.BodyHandlers.discarding()));
+    }
+
+    private boolean delete(Long postId) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/" + postId))
+                .header("password", PASSWORD)
+                .DELETE()
+                .build();
+        return isSuccess(client.send(request, HttpResponse.BodyHandlers.discarding()));
+    }
+
+    private boolean report(double elapsedSeconds) throws IOException {
+        Files.createDirectories(options.histogramDir());
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+
+        System.out.printf("%n%-26s %9s %10s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "req/s", "errors", "p50(ms)", "p95(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = recorders.get(endpoint).getIntervalHistogram();
+            long endpointErrors = errors.get(endpoint).sum();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(histogram);
+            totalErrors += endpointErrors;
+            printRow(endpoint.description(), histogram, endpointErrors, elapsedSeconds);
+            writeDistribution(endpoint.key(), histogram);
+        }
+        printRow("total", total, totalErrors, elapsedSeconds);
+        writeDistribution("total", total);
+        System.out.printf("%n지연시간 분포: %s%n", options.histogramDir().toAbsolutePath());
+
+        double p99Millis = total.getValueAtPercentile(99) / 1_000_000.0;
+        double errorRate = total.getTotalCount() == 0 ? 1 : totalErrors / (double) total.getTotalCount();
+        boolean passed = true;
+        if (options.maxP99Millis() > 0 && p99Millis > options.maxP99Millis()) {
+            System.out.printf("실패: p99 %.2fms > 기준 %.2fms%n", p99Millis, options.maxP99Millis());
+            passed = false;
+        }
+        if (errorRate > options.maxErrorRate()) {
+            System.out.printf("실패: 오류 비율 %.4f > 기준 %.4f%n", errorRate, options.maxErrorRate());
+            passed = false;
+        }
+        return passed;
+    }
+
+    private static void printRow(String name, Histogram histogram, long errors, double elapsedSeconds) {
+        System.out.printf("%-26s %9d %10.1f %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / elapsedSeconds,
+                errors,
+                histogram.getValueAtPercentile(50) / 1_000_000.0,
+                histogram.getValueAtPercentile(95) / 1_000_000.0,
+                histogram.getValueAtPercentile(99) / 1_000_000.0,
+                histogram.getValueAtPercentile(99.9) / 1_000_000.0,
+                histogram.getMaxValue() / 1_000_000.0);
+    }
+
+    // HdrHistogram Plotter 등으로 비교할 수 있는 백분위 분포 파일 (ms 단위)
+    private void writeDistribution(String name, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(options.histogramDir().resolve(name + ".hgrm")))) {
+            histogram.outputPercentileDistribution(out, 1_000_000.0);
+        }
+    }
+
+    private Long randomSeededPostId() {
+        return seededPostIds.get(ThreadLocalRandom.current().nextInt(seededPostIds.size()));
+    }
+
+    private static boolean isSuccess(HttpResponse<?> response) {
+        return response.statusCode() < 400;
+    }
+
+    private static HttpRequest jsonRequest(URI uri, String method, String body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String body(String title) {
+        return """
+                {"name":"loadtest","password":"%s","title":"%s","content":"loadtest content"}
+                """.formatted(PASSWORD, title);
+    }
+
+    private record Created(boolean success, Long postId) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.sparta.board.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트 옵션 (--이름=값 형식)
+ *
+ * @param target       요청 대상 주소, null 이면 애플리케이션을 loadtest 프로필로 같은 프로세스에 띄운다.
+ * @param duration     측정 시간
+ * @param warmup       측정 전 워밍업 시간 (결과에서 제외)
+ * @param concurrency  동시 요청 수 (요청마다 응답을 기다리는 closed-loop)
+ * @param mix          요청 종류별 가중치
+ * @param seedPosts    측정 전에 작성해 둘 게시글 수 (조회, 수정 대상)
+ * @param maxP99Millis 전체 p99 지연시간 기준(ms), 0 이면 검사하지 않음
+ * @param maxErrorRate 오류 응답 비율 기준(0~1)
+ * @param histogramDir 요청 종류별 HdrHistogram 분포 파일(.hgrm) 저장 경로
+ * @param springArgs   애플리케이션에 그대로 넘길 --spring.* 인자
+ */
+public record LoadTestOptions(
+        String target,
+        Duration duration,
+        Duration warmup,
+        int concurrency,
+        Map<Endpoint, Integer> mix,
+        int seedPosts,
+        double maxP99Millis,
+        double maxErrorRate,
+        Path histogramDir,
+        String[] springArgs
+) {
+    private static final String DEFAULT_MIX = "list:40,get:40,create:10,update:5,delete:5";
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && !arg.startsWith("--spring.") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+
+        return new LoadTestOptions(
+                options.get("target"),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10"))),
+                Integer.parseInt(options.getOrDefault("concurrency", "64")),
+                parseMix(options.getOrDefault("mix", DEFAULT_MIX)),
+                Math.max(1, Integer.parseInt(options.getOrDefault("seed-posts", "500"))),
+                Double.parseDouble(options.getOrDefault("max-p99", "0")),
+                Double.parseDouble(options.getOrDefault("max-error-rate", "0.01")),
+                Path.of(options.getOrDefault("histogram-dir", "build/loadtest")),
+                Arrays.stream(args).filter(arg -> arg.startsWith("--spring.")).toArray(String[]::new)
+        );
+    }
+
+    /**
+     * 가중치에 따라 이번에 보낼 요청 종류 선택
+     */
+    public Endpoint nextEndpoint() {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int pick = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String weight : value.split(",")) {
+            String[] pair = weight.split(":");
+            int parsed = Integer.parseInt(pair[1].trim());
+            if (parsed > 0) {
+                mix.put(Endpoint.fromKey(pair[0].trim()), parsed);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("--mix 에 가중치가 0 보다 큰 요청 종류가 하나 이상 필요합니다.");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,90 @@
+package com.sparta.board.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 첫 요청까지 걸리는 시간(time-to-first-request) 측정
+ * 애플리케이션 실행 명령을 별도 프로세스로 실행하고, 프로세스 시작부터 --url 이 처음 200 으로 응답할 때까지 걸린 시간을
+ * --runs 번 측정해 최소, 중앙값, 최대값을 출력한다. 옵션(--이름=값) 이후 인자는 모두 실행 명령이다.
+ * 기존 실행 방식과 빠른 시작 프로필(AOT, AppCDS)을 같은 장비, 같은 DB 에서 각각 측정해 비교한다.
+ *
+ * ./gradlew startupTime -Pargs="--runs=5 java -jar build/libs/anonymous-board-0.0.1-SNAPSHOT.jar"
+ * ./gradlew startupTime -Pargs="--runs=5 java -XX:SharedArchiveFile=build/cds/app.jsa -Dspring.aot.enabled=true -jar build/cds/app.jar --spring.profiles.active=fast-startup"
+ */
+public class StartupTime {
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        int commandStart = 0;
+        while (commandStart < args.length && args[commandStart].startsWith("--") && args[commandStart].contains("=")) {
+            String arg = args[commandStart++];
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        List<String> command = Arrays.asList(args).subList(commandStart, args.length);
+        if (command.isEmpty()) {
+            throw new IllegalArgumentException("측정할 애플리케이션 실행 명령이 필요합니다.");
+        }
+
+        int runs = Math.max(1, Integer.parseInt(options.getOrDefault("runs", "5")));
+        URI url = URI.create(options.getOrDefault("url", "http://localhost:8080/api/posts"));
+        Duration timeout = Duration.ofSeconds(Long.parseLong(options.getOrDefault("timeout", "120")));
+
+        System.out.printf("실행 명령: %s%n", String.join(" ", command));
+        List<Long> results = new ArrayList<>(runs);
+        for (int run = 1; run <= runs; run++) {
+            long millis = measure(command, url, timeout);
+            results.add(millis);
+            System.out.printf("%d회: %dms%n", run, millis);
+        }
+
+        results.sort(null);
+        System.out.printf("첫 요청까지 걸린 시간 (%d회) min %dms, median %dms, max %dms%n",
+                runs, results.get(0), results.get(results.size() / 2), results.get(results.size() - 1));
+    }
+
+    // 프로세스 시작부터 첫 200 응답까지 걸린 시간(ms), 측정 후 프로세스 종료
+    private static long measure(List<String> command, URI url, Duration timeout) throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(5)).GET().build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("애플리케이션이 시작 중 종료되었습니다. (종료 코드 " + process.exitValue() + ")");
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException e) {
+                    // 아직 포트를 열지 않았거나 응답하지 않음
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+            throw new IllegalStateException(timeout.toSeconds() + "초 안에 첫 요청에 응답하지 않았습니다.");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+}
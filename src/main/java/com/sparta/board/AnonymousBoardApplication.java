@@ -2,12 +2,25 @@ package com.sparta.board;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.ConfigurableApplicationContext;
 
+@ConfigurationPropertiesScan
 @SpringBootApplication
 public class AnonymousBoardApplication {
+    // 기록할 최대 시작 단계 수 (StartupReport, /actuator/startup)
+    private static final int STARTUP_STEP_CAPACITY = 4096;
 
     public static void main(String[] args) {
-        SpringApplication.run(AnonymousBoardApplication.class, args);
+        SpringApplication application = new SpringApplication(AnonymousBoardApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        ConfigurableApplicationContext context = application.run(args);
+
+        // AppCDS 학습 실행(./gradlew cdsArchive)은 시작을 마치면 종료해, 시작에 사용한 클래스를 아카이브에 기록한다.
+        if (Boolean.getBoolean("board.cds.training")) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 
 }
@@ -1,6 +1,10 @@
 package com.sparta.board.aop;
 
+import com.sparta.board.exception.BulkheadFullException;
+import com.sparta.board.exception.InvalidCursorException;
 import com.sparta.board.exception.InvalidPasswordException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
@@ -9,10 +13,12 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.RejectedExecutionException;
 
+@RequiredArgsConstructor
 @RestControllerAdvice
 public class ApiExceptionAdvice {
-
+    private final MeterRegistry meterRegistry;
 
     /**
      * [Exception] API 호출 시 PathVariable 에 없는 리소스 ID 값으로 조회하는 경우 예외 발생
@@ -26,6 +32,7 @@ public class ApiExceptionAdvice {
         if (StringUtils.hasText(exception.getMessage())) {
             msg = exception.getMessage();
         }
+        count(HttpStatus.NOT_FOUND, exception);
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("msg", msg));
     }
     /**
@@ -40,6 +47,54 @@ public class ApiExceptionAdvice {
         if (StringUtils.hasText(exception.getMessage())) {
             msg = exception.getMessage();
         }
+        count(HttpStatus.FORBIDDEN, exception);
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("msg", msg));
     }
+
+    /**
+     * [Exception] 목록 조회 시 잘못된 형식의 커서를 전달한 경우 예외 발생
+     *
+     * @param exception InvalidCursorException
+     * @return ResponseEntity<Map<String,String>>
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String,String>> invalidCursorExceptionHandler(InvalidCursorException exception) {
+        count(HttpStatus.BAD_REQUEST, exception);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("msg", exception.getMessage()));
+    }
+
+    /**
+     * [Exception] 비밀번호 처리 대기 작업이 가득 차 요청을 처리할 수 없는 경우 예외 발생
+     *
+     * @param exception RejectedExecutionException
+     * @return ResponseEntity<Map<String,String>>
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Map<String,String>> rejectedExecutionExceptionHandler(RejectedExecutionException exception) {
+        count(HttpStatus.SERVICE_UNAVAILABLE, exception);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of("msg", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    /**
+     * [Exception] 커넥션 동시 사용 수 제한을 넘어 대기 시간 안에 커넥션을 얻지 못한 경우 예외 발생
+     * 트랜잭션 시작 예외(CannotCreateTransactionException 등)의 원인인 경우도 처리된다.
+     *
+     * @param exception BulkheadFullException
+     * @return ResponseEntity<Map<String,String>>
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<Map<String,String>> bulkheadFullExceptionHandler(BulkheadFullException exception) {
+        count(HttpStatus.SERVICE_UNAVAILABLE, exception);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("msg", exception.getMessage()));
+    }
+
+    // 오류 응답 수 (board.api.errors, 상태코드와 예외 종류별)
+    private void count(HttpStatus status, Exception exception) {
+        meterRegistry.counter(
+                "board.api.errors",
+                "status", String.valueOf(status.value()),
+                "exception", exception.getClass().getSimpleName()
+        ).increment();
+    }
 }
@@ -0,0 +1,13 @@
+package com.sparta.board.cache;
+
+public record CacheStats(
+        int size,
+        long hitCount,
+        long missCount,
+        long evictionCount
+) {
+    public double hitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+    }
+}
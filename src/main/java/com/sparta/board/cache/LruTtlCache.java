@@ -0,0 +1,231 @@
+package com.sparta.board.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기 제한(LRU)과 만료 시간(TTL)을 가지는 인메모리 캐시
+ * 키 해시로 나눈 세그먼트마다 따로 잠가 서로 다른 세그먼트의 조회는 경합하지 않는다.
+ * LRU 제거는 세그먼트 단위이며(전체 기준으로는 근사), 세그먼트가 MIN_SEGMENT_SIZE 보다 작아지지 않도록
+ * 작은 캐시는 세그먼트 하나로 정확한 LRU 를 유지한다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class LruTtlCache<K, V> {
+    private static final int MIN_SEGMENT_SIZE = 64;
+    private static final int MAX_SEGMENTS = 16;
+
+    private final long ttlNanos;
+    private final List<Segment> segments;
+    private final int segmentMask;
+    // 마지막으로 발급한 예약 번호, 0 은 값이 저장된 항목
+    private final AtomicLong lastReservation = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public LruTtlCache(int maxSize, Duration ttl) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.ttlNanos = ttl.toNanos();
+
+        // 세그먼트 수는 2 의 거듭제곱, 최대 크기는 세그먼트에 나누어 합이 maxSize 가 되도록 한다.
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maxSize / MIN_SEGMENT_SIZE)));
+        List<Segment> segments = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments.add(new Segment(maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0)));
+        }
+        this.segments = List.copyOf(segments);
+        this.segmentMask = segmentCount - 1;
+    }
+
+    public V get(K key) {
+        Segment entries = segmentFor(key);
+        synchronized (entries) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry == null || entry.isReservation()) {
+                missCount.increment();
+                return null;
+            }
+            if (entry.isExpired(System.nanoTime())) {
+                entries.remove(key);
+                evictionCount.increment();
+                missCount.increment();
+                return null;
+            }
+            hitCount.increment();
+            return entry.value();
+        }
+    }
+
+    /**
+     * 저장된 값만 반환, 없거나 만료되었으면 null
+     * 캐시를 채우는 조회가 아닌 경우(다른 기능이 캐시된 값을 재사용)에 사용하며 적중률에 포함하지 않는다.
+     */
+    public V peek(K key) {
+        Segment entries = segmentFor(key);
+        synchronized (entries) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry == null || entry.isReservation() || entry.isExpired(System.nanoTime())) {
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    public void put(K key, V value) {
+        CacheEntry<V> entry = new CacheEntry<>(value, System.nanoTime() + ttlNanos, 0);
+        Segment entries = segmentFor(key);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * 원본 조회 시작 표시
+     * 조회 중 remove 로 표시가 지워지면 putIfReserved 로 저장되지 않아, 무효화 이전에 조회한 값이 캐시에 남지 않는다.
+     * 같은 키를 조회 중인 표시가 있으면 그 표시를 함께 사용한다.
+     *
+     * @return putIfReserved, release 에 전달할 예약 번호
+     */
+    public long reserve(K key) {
+        Segment entries = segmentFor(key);
+        synchronized (entries) {
+            long now = System.nanoTime();
+            CacheEntry<V> entry = entries.get(key);
+            if (entry != null && entry.isReservation() && !entry.isExpired(now)) {
+                return entry.reservation();
+            }
+            long reservation = lastReservation.incrementAndGet();
+            entries.put(key, new CacheEntry<>(null, now + ttlNanos, reservation));
+            return reservation;
+        }
+    }
+
+    /**
+     * reserve 이후 무효화되지 않았을 때만 저장
+     *
+     * @return 저장 여부
+     */
+    public boolean putIfReserved(K key, long reservation, V value) {
+        Segment entries = segmentFor(key);
+        synchronized (entries) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry == null || entry.reservation() != reservation) {
+                return false;
+            }
+            entries.put(key, new CacheEntry<>(value, System.nanoTime() + ttlNanos, 0));
+            return true;
+        }
+    }
+
+    /**
+     * 원본 조회에 실패한 경우 조회 시작 표시 제거
+     */
+    public void release(K key, long reservation) {
+        Segment entries = segmentFor(key);
+        synchronized (entries) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry != null && entry.reservation() == reservation) {
+                entries.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 값이 저장되어 있거나 원본 조회 중인지 여부 (만료 후 아직 제거되지 않은 항목 포함)
+     * 적중률에 포함하지 않고, 조회 순서를 바꾸지 않는다.
+     */
+    public boolean contains(K key) {
+        Segment entries = segmentFor(key);
+        synchronized (entries) {
+            return entries.containsKey(key);
+        }
+    }
+
+    /**
+     * 저장된 값이 expected 와 같을 때만 값을 바꾼다. 만료 시간은 유지한다.
+     *
+     * @return 변경 여부
+     */
+    public boolean replace(K key, V expected, V value) {
+        Segment entries = segmentFor(key);
+        synchronized (entries) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry == null || entry.isReservation() || entry.value() != expected) {
+                return false;
+            }
+            entries.put(key, new CacheEntry<>(value, entry.expiresAtNanos(), 0));
+            return true;
+        }
+    }
+
+    public void remove(K key) {
+        Segment entries = segmentFor(key);
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void clear() {
+        for (Segment entries : segments) {
+            synchronized (entries) {
+                entries.clear();
+            }
+        }
+    }
+
+    public CacheStats stats() {
+        int size = 0;
+        for (Segment entries : segments) {
+            synchronized (entries) {
+                size += entries.size();
+            }
+        }
+        return new CacheStats(size, hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
+    // 연속된 ID 도 고르게 나뉘도록 상위 비트를 섞어 세그먼트 선택
+    private Segment segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments.get((hash ^ (hash >>> 16)) & segmentMask);
+    }
+
+    // accessOrder = true : 조회 순서 기준으로 가장 오래 사용되지 않은 항목부터 제거 (세그먼트 잠금 안에서만 사용)
+    private final class Segment extends LinkedHashMap<K, CacheEntry<V>> {
+        private final int maxSize;
+
+        Segment(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+            if (size() > maxSize) {
+                evictionCount.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    // reservation 이 0 이 아니면 값 없이 원본 조회 중임을 표시한 항목
+    private record CacheEntry<V>(V value, long expiresAtNanos, long reservation) {
+        boolean isReservation() {
+            return reservation != 0;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
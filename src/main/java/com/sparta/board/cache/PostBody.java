@@ -0,0 +1,38 @@
+package com.sparta.board.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화를 마친 게시글 응답 본문
+ *
+ * @param json             JSON 본문
+ * @param gzip             gzip 으로 압축한 JSON 본문, 본문이 작아 압축하지 않았으면 null
+ * @param modifiedDateTime 본문을 만든 게시글의 수정 시각 (조건부 조회 기준)
+ */
+public record PostBody(
+        byte[] json,
+        byte[] gzip,
+        LocalDateTime modifiedDateTime
+) {
+    public static PostBody of(byte[] json, LocalDateTime modifiedDateTime, int gzipMinSize) {
+        return new PostBody(json, json.length >= gzipMinSize ? gzip(json) : null, modifiedDateTime);
+    }
+
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+            gzipOutputStream.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,145 @@
+package com.sparta.board.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.board.config.PostBodyCacheProperties;
+import com.sparta.board.dto.response.PostResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 게시글 단건 조회 응답 본문(JSON, gzip 바이트) 캐시
+ * 캐시에 있으면 PostResponse 변환, Jackson 직렬화(날짜 포맷 포함), gzip 압축 없이 바이트를 그대로 응답한다.
+ * 수정, 삭제 커밋 이후 evict 를 호출한다.
+ * 본문의 조회수는 DB 에 반영된 조회수이며, 조회수가 반영되면 다음 조회에서 DB 조회 없이 캐시된 게시글로 본문만 다시 만든다.
+ * 따라서 캐시된 본문의 조회수는 조회수 반영 주기(board.post.views.flush-interval) 단위로 갱신된다.
+ * 캐시 크기, 적중/실패, 제거 수는 board.cache.*{cache=post-body} 메트릭으로 기록한다.
+ */
+@Component
+public class PostBodyCache {
+    private final boolean enabled;
+    private final int gzipMinSize;
+    private final LruTtlCache<Long, CachedBody> cache;
+    private final ObjectMapper objectMapper;
+
+    public PostBodyCache(PostBodyCacheProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.gzipMinSize = properties.gzipMinSize();
+        this.cache = new LruTtlCache<>(properties.maxSize(), properties.ttl());
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("board.cache.size", cache, c -> c.stats().size())
+                .description("캐시된 항목 수 (원본 조회 중인 항목 포함)")
+                .tag("cache", "post-body")
+                .register(meterRegistry);
+        FunctionCounter.builder("board.cache.gets", cache, c -> c.stats().hitCount())
+                .description("캐시 조회 수")
+                .tag("cache", "post-body").tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("board.cache.gets", cache, c -> c.stats().missCount())
+                .description("캐시 조회 수")
+                .tag("cache", "post-body").tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("board.cache.evictions", cache, c -> c.stats().evictionCount())
+                .description("크기 제한, 만료로 제거한 항목 수")
+                .tag("cache", "post-body")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param loader 캐시에 없을 때 게시글 조회
+     * @param views  게시글의 DB 에 반영된 조회수, 본문을 만든 시점과 다르면 본문을 다시 만든다.
+     */
+    public PostBody getOrLoad(Long postId, Supplier<PostSnapshot> loader, ToLongFunction<PostSnapshot> views) {
+        if (!enabled) {
+            PostSnapshot snapshot = loader.get();
+            return serialize(snapshot, views.applyAsLong(snapshot)).body();
+        }
+
+        CachedBody cached = cache.get(postId);
+        if (cached != null) {
+            long currentViews = views.applyAsLong(cached.snapshot());
+            if (currentViews == cached.views()) {
+                return cached.body();
+            }
+            // 무효화된 본문은 되살리지 않는다.
+            CachedBody refreshed = serialize(cached.snapshot(), currentViews);
+            cache.replace(postId, cached, refreshed);
+            return refreshed.body();
+        }
+
+        // 조회 중 같은 게시글이 무효화되면 조회한 본문은 캐시에 넣지 않는다.
+        long reservation = cache.reserve(postId);
+        CachedBody loaded;
+        try {
+            PostSnapshot snapshot = loader.get();
+            loaded = serialize(snapshot, views.applyAsLong(snapshot));
+        } catch (RuntimeException e) {
+            cache.release(postId, reservation);
+            throw e;
+        }
+        cache.putIfReserved(postId, reservation, loaded);
+        return loaded.body();
+    }
+
+    /**
+     * 캐시에 있는 본문만 반환, 없으면 null (조회수가 반영되었어도 본문을 다시 만들지 않는다.)
+     */
+    public PostBody peek(Long postId) {
+        if (!enabled) {
+            return null;
+        }
+        CachedBody cached = cache.get(postId);
+        return cached != null ? cached.body() : null;
+    }
+
+    /**
+     * 캐시에 있는 본문을 만든 게시글만 반환, 없으면 null
+     * 단건 조회가 아닌 기능(인기 게시글)이 DB 조회 없이 재사용하며, 적중률에 포함하지 않는다.
+     */
+    public PostSnapshot peekSnapshot(Long postId) {
+        if (!enabled) {
+            return null;
+        }
+        CachedBody cached = cache.peek(postId);
+        return cached != null ? cached.snapshot() : null;
+    }
+
+    /**
+     * 캐시되어 있거나 캐시에 넣을 게시글을 조회 중인지 여부
+     */
+    public boolean contains(Long postId) {
+        return enabled && cache.contains(postId);
+    }
+
+    public void evict(Long postId) {
+        cache.remove(postId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private CachedBody serialize(PostSnapshot snapshot, long views) {
+        PostResponse post = snapshot.post().withViews(views);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(post);
+            return new CachedBody(snapshot, views, PostBody.of(json, post.lastModifiedDateTime(), gzipMinSize));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 응답을 직렬화할 수 없습니다. (id: " + post.id() + ")", e);
+        }
+    }
+
+    // 본문을 다시 만들 때 DB 를 조회하지 않도록 본문과 함께 조회한 게시글을 보관
+    private record CachedBody(
+            PostSnapshot snapshot,
+            long views,
+            PostBody body
+    ) {
+    }
+}
@@ -0,0 +1,207 @@
+package com.sparta.board.cache;
+
+import com.sparta.board.config.PostListProperties;
+import com.sparta.board.config.PostListSnapshotProperties;
+import com.sparta.board.dto.request.PostCursor;
+import com.sparta.board.dto.response.PostPageResponse;
+import com.sparta.board.dto.response.PostSummaryResponse;
+import com.sparta.board.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 목록 첫 페이지(최신 게시글 N개) 스냅샷
+ * 조회는 volatile 필드로 교체되는 불변 스냅샷을 락 없이 읽고,
+ * 생성, 수정, 삭제는 DB 재조회 없이 스냅샷을 갱신해 교체한다.
+ */
+@Slf4j
+@Component
+public class PostListSnapshot {
+    private static final Comparator<PostSummaryResponse> LATEST_FIRST = Comparator
+            .comparing(PostSummaryResponse::createdDateTime, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(PostSummaryResponse::id, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .reversed();
+
+    private final PostRepository postRepository;
+    private final PostListSnapshotProperties properties;
+    private final int excerptLength;
+    private final long maxAgeNanos;
+
+    private final Object writeLock = new Object();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-list-snapshot-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Snapshot snapshot;
+    // 게시글 변경 횟수 (스냅샷이 없을 때 포함), 재조회 도중 변경이 있었다면 재조회 결과를 스냅샷으로 쓰지 않는다.
+    private long version;
+
+    public PostListSnapshot(
+            PostRepository postRepository,
+            PostListSnapshotProperties properties,
+            PostListProperties postListProperties
+    ) {
+        this.postRepository = postRepository;
+        this.properties = properties;
+        this.excerptLength = postListProperties.excerptLength();
+        this.maxAgeNanos = properties.maxAge().toNanos();
+    }
+
+    /**
+     * 스냅샷으로 첫 페이지를 만들 수 있으면 반환, 불가능하면 null 반환
+     */
+    public PostPageResponse getFirstPage(int limit) {
+        if (!properties.enabled() || limit > properties.size()) {
+            return null;
+        }
+
+        Snapshot current = snapshot;
+        if (current == null || current.isExpired(System.nanoTime(), maxAgeNanos)) {
+            current = revalidate(current);
+        }
+
+        // 삭제로 스냅샷이 요청 개수보다 짧아진 경우 DB 에서 조회
+        if (current.posts().size() < limit && current.hasMore()) {
+            refreshAsync();
+            return null;
+        }
+        return current.toPage(limit);
+    }
+
+    public void onCreated(PostSummaryResponse post) {
+        update(posts -> {
+            posts.add(post);
+            posts.sort(LATEST_FIRST);
+        });
+    }
+
+    public void onUpdated(PostSummaryResponse post) {
+        update(posts -> posts.replaceAll(it -> it.id().equals(post.id()) ? post : it));
+    }
+
+    public void onDeleted(Long postId) {
+        update(posts -> posts.removeIf(it -> it.id().equals(postId)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private Snapshot revalidate(Snapshot current) {
+        if (current != null && properties.staleWhileRevalidate()) {
+            refreshAsync();
+            return current;
+        }
+        try {
+            return refresh();
+        } catch (DataAccessException e) {
+            if (current == null || !properties.staleWhileRevalidate()) {
+                throw e;
+            }
+            log.warn("게시글 목록 스냅샷 갱신 실패, 이전 스냅샷 반환", e);
+            return current;
+        }
+    }
+
+    private void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh();
+                } catch (RuntimeException e) {
+                    log.warn("게시글 목록 스냅샷 갱신 실패", e);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    private Snapshot refresh() {
+        long loadVersion;
+        synchronized (writeLock) {
+            loadVersion = version;
+        }
+
+        int size = properties.size();
+        List<PostSummaryResponse> loaded = postRepository.findFirstPage(excerptLength, PageRequest.of(0, size + 1));
+        Snapshot refreshed = new Snapshot(
+                List.copyOf(loaded.subList(0, Math.min(size, loaded.size()))),
+                loaded.size() > size,
+                System.nanoTime()
+        );
+
+        synchronized (writeLock) {
+            if (version != loadVersion) {
+                // 첫 조회 중 변경된 경우 조회 결과는 이번 요청에만 사용하고, 다음 요청에서 다시 조회
+                return snapshot != null ? snapshot : refreshed;
+            }
+            version++;
+            snapshot = refreshed;
+            return refreshed;
+        }
+    }
+
+    private void update(Consumer<List<PostSummaryResponse>> modifier) {
+        if (!properties.enabled()) {
+            return;
+        }
+        synchronized (writeLock) {
+            // 첫 조회가 진행 중이어도 변경 이전에 조회한 결과를 스냅샷으로 쓰지 않도록 항상 증가
+            version++;
+            Snapshot current = snapshot;
+            if (current == null) {
+                return;
+            }
+            List<PostSummaryResponse> posts = new ArrayList<>(current.posts());
+            modifier.accept(posts);
+
+            boolean hasMore = current.hasMore();
+            while (posts.size() > properties.size()) {
+                posts.remove(posts.size() - 1);
+                hasMore = true;
+            }
+            snapshot = new Snapshot(List.copyOf(posts), hasMore, current.loadedAtNanos());
+        }
+    }
+
+    private record Snapshot(
+            List<PostSummaryResponse> posts,
+            boolean hasMore,
+            long loadedAtNanos
+    ) {
+        boolean isExpired(long now, long maxAgeNanos) {
+            return now - loadedAtNanos >= maxAgeNanos;
+        }
+
+        PostPageResponse toPage(int limit) {
+            List<PostSummaryResponse> page = posts.size() > limit ? posts.subList(0, limit) : posts;
+            boolean hasNext = posts.size() > limit || hasMore;
+            String nextCursor = hasNext && !page.isEmpty()
+                    ? PostCursor.from(page.get(page.size() - 1)).encode()
+                    : null;
+            return PostPageResponse.of(page, nextCursor);
+        }
+    }
+}
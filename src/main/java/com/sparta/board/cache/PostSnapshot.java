@@ -0,0 +1,19 @@
+package com.sparta.board.cache;
+
+import com.sparta.board.dto.response.PostResponse;
+
+/**
+ * DB 에서 조회한 게시글과 조회 시점의 조회수 기준점
+ * 캐시된 게시글의 조회수는 조회 이후 PostViewCounter 가 모은 조회수를 더해 응답한다.
+ *
+ * @param post         조회한 게시글 (조회수는 조회 시점에 DB 에 저장된 조회수)
+ * @param viewBaseline 조회 시점까지 PostViewCounter 가 DB 에 반영한 조회수
+ */
+public record PostSnapshot(
+        PostResponse post,
+        long viewBaseline
+) {
+    public Long id() {
+        return post.id();
+    }
+}
@@ -0,0 +1,78 @@
+package com.sparta.board.cache;
+
+import com.sparta.board.config.PasswordProperties;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+
+/**
+ * 최근 비밀번호 검증에 성공한 게시글 캐시
+ * 평문 비밀번호 대신 프로세스마다 새로 만드는 비밀 키로 계산한 HMAC 만 저장하며,
+ * 저장된 비밀번호 해시를 함께 서명해 비밀번호가 바뀌면 기존 검증 결과를 사용하지 않는다.
+ * 검증 성공만 기록하므로 캐시 조회 결과로 검증 실패가 성공으로 바뀌지 않는다.
+ */
+@Component
+public class VerifiedPasswordCache {
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final boolean enabled;
+    private final LruTtlCache<Long, byte[]> cache;
+    private final SecretKeySpec secretKey;
+    private final ThreadLocal<Mac> mac;
+
+    public VerifiedPasswordCache(PasswordProperties properties) {
+        PasswordProperties.VerifiedCache verifiedCache = properties.verifiedCache();
+        this.enabled = verifiedCache.enabled();
+        this.cache = new LruTtlCache<>(verifiedCache.maxSize(), verifiedCache.ttl());
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.secretKey = new SecretKeySpec(key, ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::createMac);
+    }
+
+    public boolean isVerified(Long postId, String encodedPassword, String rawPassword) {
+        if (!enabled || rawPassword == null) {
+            return false;
+        }
+        byte[] verified = cache.get(postId);
+        return verified != null && MessageDigest.isEqual(verified, sign(encodedPassword, rawPassword));
+    }
+
+    public void markVerified(Long postId, String encodedPassword, String rawPassword) {
+        if (!enabled || rawPassword == null) {
+            return;
+        }
+        cache.put(postId, sign(encodedPassword, rawPassword));
+    }
+
+    public void evict(Long postId) {
+        cache.remove(postId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private byte[] sign(String encodedPassword, String rawPassword) {
+        Mac hmac = mac.get();
+        hmac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+        hmac.update((byte) 0);
+        return hmac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac createMac() {
+        try {
+            Mac hmac = Mac.getInstance(ALGORITHM);
+            hmac.init(secretKey);
+            return hmac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
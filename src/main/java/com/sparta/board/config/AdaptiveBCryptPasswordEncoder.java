@@ -0,0 +1,76 @@
+package com.sparta.board.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 서버 성능에 맞춰 작업 비용(strength)을 정하는 BCryptPasswordEncoder
+ * 저장된 비밀번호의 작업 비용이 설정된 값보다 낮으면 upgradeEncoding 이 true 를 반환해
+ * 비밀번호 검증 성공 시 현재 작업 비용으로 다시 암호화할 수 있도록 한다.
+ * 더 높은 작업 비용은 낮추지 않으므로, 측정 결과가 다른 인스턴스끼리 번갈아 다시 암호화하지 않는다.
+ * 여러 인스턴스로 실행할 때는 작업 비용이 인스턴스마다 달라지지 않도록 고정 작업 비용(fixed)을 설정한다.
+ */
+@Slf4j
+public class AdaptiveBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    private static final Pattern BCRYPT_STRENGTH = Pattern.compile("\\A\\$2[abxy]?\\$(\\d\\d)\\$");
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final int strength;
+
+    public AdaptiveBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * 작업 비용을 1 올릴 때마다 bcrypt 연산 시간이 두 배가 되는 점을 이용해
+     * 최소 작업 비용의 연산 시간을 측정하고 목표 시간을 넘지 않는 가장 큰 작업 비용을 계산한다.
+     */
+    public static AdaptiveBCryptPasswordEncoder calibrate(PasswordProperties.Strength properties) {
+        if (properties.fixed() > 0) {
+            return new AdaptiveBCryptPasswordEncoder(properties.fixed());
+        }
+
+        int minStrength = properties.min();
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode(CALIBRATION_PASSWORD); // warm-up
+        long elapsedNanos = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.encode(CALIBRATION_PASSWORD);
+            elapsedNanos = Math.min(elapsedNanos, System.nanoTime() - start);
+        }
+
+        int strength = minStrength;
+        long targetNanos = properties.targetLatency().toNanos();
+        long expectedNanos = elapsedNanos;
+        while (strength < properties.max() && expectedNanos * 2 <= targetNanos) {
+            expectedNanos *= 2;
+            strength++;
+        }
+
+        log.info("bcrypt 작업 비용 {} 선택 (목표 {}ms, 예상 {}ms), 여러 인스턴스로 실행하면 board.password.strength.fixed 로 고정하세요.",
+                strength, properties.targetLatency().toMillis(), Duration.ofNanos(expectedNanos).toMillis());
+        return new AdaptiveBCryptPasswordEncoder(strength);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_STRENGTH.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return super.upgradeEncoding(encodedPassword);
+        }
+        return Integer.parseInt(matcher.group(1)) < strength;
+    }
+}
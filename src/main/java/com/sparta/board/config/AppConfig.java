@@ -1,15 +1,25 @@
 package com.sparta.board.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Map;
+
 @Configuration
+@EnableConfigurationProperties(PasswordProperties.class)
 public class AppConfig {
+    private static final String BCRYPT_ID = "bcrypt";
+
     //단방향 암호화 패스워드 인코더 빈 등록
+    //bcrypt 작업 비용은 시작 시 목표 암호화 시간에 맞춰 측정, 저장된 {bcrypt} 형식은 그대로 사용
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordProperties properties) {
+        return new DelegatingPasswordEncoder(
+                BCRYPT_ID,
+                Map.of(BCRYPT_ID, AdaptiveBCryptPasswordEncoder.calibrate(properties.strength()))
+        );
     }
 }
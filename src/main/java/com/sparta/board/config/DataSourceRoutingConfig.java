@@ -0,0 +1,79 @@
+package com.sparta.board.config;
+
+import com.sparta.board.datasource.ReplicaRouter;
+import com.sparta.board.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션을 복제 DB 로 보내는 DataSource 설정
+ * board.datasource.routing.enabled 가 true 이면 자동 설정 DataSource 대신 사용한다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "board.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * primary 커넥션 풀 (spring.datasource, spring.datasource.hikari 설정 사용)
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRouter replicaRouter(DataSourceRoutingProperties properties, MeterRegistry meterRegistry) {
+        List<HikariDataSource> replicas = properties.replicas().stream()
+                .map(replica -> createReplica(replica, meterRegistry))
+                .toList();
+        log.info("읽기 전용 트랜잭션을 복제 DB {}개({})로 분산합니다.", replicas.size(), properties.routing().strategy());
+        return new ReplicaRouter(replicas, properties.routing(), meterRegistry);
+    }
+
+    /**
+     * JPA, JdbcTemplate 이 사용하는 DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRouter replicaRouter) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaRouter));
+    }
+
+    // 복제 DB 별 커넥션 풀, hikaricp.* 메트릭은 pool 태그(복제 DB 이름)로 구분
+    private static HikariDataSource createReplica(
+            DataSourceRoutingProperties.Replica replica,
+            MeterRegistry meterRegistry
+    ) {
+        DataSourceRoutingProperties.Pool pool = replica.pool();
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(replica.name());
+        dataSource.setJdbcUrl(replica.url());
+        dataSource.setUsername(replica.username());
+        dataSource.setPassword(replica.password());
+        if (StringUtils.hasText(replica.driverClassName())) {
+            dataSource.setDriverClassName(replica.driverClassName());
+        }
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(pool.maximumPoolSize());
+        dataSource.setMinimumIdle(pool.minimumIdle() < 0 ? pool.maximumPoolSize() : pool.minimumIdle());
+        dataSource.setConnectionTimeout(pool.connectionTimeout().toMillis());
+        dataSource.setMaxLifetime(pool.maxLifetime().toMillis());
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
@@ -0,0 +1,75 @@
+package com.sparta.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션 복제(replica) DB 분산 설정 (board.datasource)
+ * 쓰기와 읽기 전용이 아닌 트랜잭션은 spring.datasource(primary)를 사용한다.
+ *
+ * @param routing  분산 방식, 상태 확인 설정
+ * @param replicas 읽기 전용 트랜잭션을 보낼 복제 DB 목록
+ */
+@ConfigurationProperties(prefix = "board.datasource")
+public record DataSourceRoutingProperties(
+        @DefaultValue Routing routing,
+        @DefaultValue List<Replica> replicas
+) {
+    public enum Strategy {
+        // 복제 DB 를 차례대로 사용
+        ROUND_ROBIN,
+        // 사용 중인 커넥션이 가장 적은 복제 DB 사용
+        LEAST_CONNECTIONS
+    }
+
+    /**
+     * @param enabled             복제 DB 분산 사용 여부
+     * @param strategy            복제 DB 선택 방식
+     * @param healthCheckInterval 복제 DB 상태(연결, 복제 지연) 확인 주기
+     * @param lagQuery            복제 지연 시간(초)을 조회하는 SQL, 비어 있으면 지연을 확인하지 않는다. (결과가 null 이면 복제 중단)
+     * @param maxLag              허용하는 최대 복제 지연 시간, 초과 시 복구될 때까지 primary 사용
+     */
+    public record Routing(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("round-robin") Strategy strategy,
+            @DefaultValue("5s") Duration healthCheckInterval,
+            @DefaultValue("") String lagQuery,
+            @DefaultValue("10s") Duration maxLag
+    ) {
+    }
+
+    /**
+     * @param name            복제 DB 이름 (커넥션 풀 이름, 메트릭 태그)
+     * @param url             JDBC URL
+     * @param username        DB 사용자
+     * @param password        DB 비밀번호
+     * @param driverClassName JDBC 드라이버, 비어 있으면 URL 로 결정
+     * @param pool            복제 DB 별 커넥션 풀 설정
+     */
+    public record Replica(
+            String name,
+            String url,
+            String username,
+            String password,
+            String driverClassName,
+            @DefaultValue Pool pool
+    ) {
+    }
+
+    /**
+     * @param maximumPoolSize   최대 커넥션 수
+     * @param minimumIdle       최소 유휴 커넥션 수, 0 보다 작으면 최대 커넥션 수
+     * @param connectionTimeout 커넥션 대기 시간
+     * @param maxLifetime       커넥션 최대 유지 시간
+     */
+    public record Pool(
+            @DefaultValue("10") int maximumPoolSize,
+            @DefaultValue("-1") int minimumIdle,
+            @DefaultValue("3s") Duration connectionTimeout,
+            @DefaultValue("30m") Duration maxLifetime
+    ) {
+    }
+}
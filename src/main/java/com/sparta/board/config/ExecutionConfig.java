@@ -0,0 +1,67 @@
+package com.sparta.board.config;
+
+import com.sparta.board.datasource.BulkheadDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Configuration
+public class ExecutionConfig {
+
+    /**
+     * Tomcat 요청 처리 스레드를 요청마다 새 가상 스레드로 교체
+     * 프로젝트는 Java 17 로 빌드하므로 Java 21 API 는 리플렉션으로 호출한다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "board.execution", name = "virtual-threads", havingValue = "true")
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        log.info("Tomcat 요청을 가상 스레드에서 처리합니다.");
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    /**
+     * 커넥션 동시 사용 수 제한, JPA, JdbcTemplate 이 사용하는 DataSource(dataSource 빈)를 감싼다.
+     * 허용은 커넥션을 얻을 때 얻어 반환할 때 돌려주므로 트랜잭션 안에서 커넥션을 가진 채 다시 기다리지 않는다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "board.execution.bulkhead", name = "enabled", havingValue = "true")
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || !beanName.equals("dataSource")) {
+                    return bean;
+                }
+                ExecutionProperties.Bulkhead bulkhead = Binder.get(environment)
+                        .bindOrCreate("board.execution", ExecutionProperties.class)
+                        .bulkhead();
+                int maxConcurrentConnections = bulkhead.maxConcurrentCalls() > 0
+                        ? bulkhead.maxConcurrentCalls()
+                        : environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                log.info("커넥션 동시 사용 수를 {}개로 제한합니다.", maxConcurrentConnections);
+                return new BulkheadDataSource(dataSource, maxConcurrentConnections, bulkhead.maxWait());
+            }
+        };
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "board.execution.virtual-threads 는 Java 21 이상에서 사용할 수 있습니다. (현재 "
+                            + Runtime.version() + ")", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.sparta.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 요청 처리 실행 방식 설정 (board.execution)
+ *
+ * @param virtualThreads true 이면 Tomcat 요청을 가상 스레드에서 처리 (Java 21 이상)
+ * @param bulkhead       커넥션 동시 사용 수 제한 설정
+ */
+@ConfigurationProperties(prefix = "board.execution")
+public record ExecutionProperties(
+        @DefaultValue("false") boolean virtualThreads,
+        @DefaultValue Bulkhead bulkhead
+) {
+    /**
+     * @param enabled            동시 사용 수 제한 사용 여부
+     * @param maxConcurrentCalls 동시에 사용할 수 있는 최대 커넥션 수, 0 이하이면 커넥션 풀 크기
+     * @param maxWait            커넥션 대기 시간, 초과 시 503 응답
+     */
+    public record Bulkhead(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("0") int maxConcurrentCalls,
+            @DefaultValue("1s") Duration maxWait
+    ) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.sparta.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 암호화 설정 (board.password)
+ *
+ * @param hashing       암호화, 검증 전용 스레드 풀 설정
+ * @param strength      bcrypt 작업 비용 설정
+ * @param verifiedCache 최근 검증에 성공한 비밀번호 캐시 설정
+ */
+@ConfigurationProperties(prefix = "board.password")
+public record PasswordProperties(
+        @DefaultValue Hashing hashing,
+        @DefaultValue Strength strength,
+        @DefaultValue VerifiedCache verifiedCache
+) {
+    /**
+     * @param poolSize      스레드 수, 0 이하이면 CPU 코어 수
+     * @param queueCapacity 대기 작업 수, 초과 시 요청 거절
+     */
+    public record Hashing(
+            @DefaultValue("0") int poolSize,
+            @DefaultValue("256") int queueCapacity
+    ) {
+        public int resolvedPoolSize() {
+            return poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    /**
+     * @param targetLatency 목표 암호화 시간, 애플리케이션 시작 시 이 시간을 넘지 않는 가장 큰 작업 비용을 선택
+     * @param min           최소 작업 비용
+     * @param max           최대 작업 비용
+     * @param fixed         0 보다 크면 측정 없이 해당 작업 비용 사용
+     */
+    public record Strength(
+            @DefaultValue("50ms") Duration targetLatency,
+            @DefaultValue("8") int min,
+            @DefaultValue("14") int max,
+            @DefaultValue("0") int fixed
+    ) {
+    }
+
+    /**
+     * @param enabled 캐시 사용 여부
+     * @param maxSize 최대 캐시 게시글 수
+     * @param ttl     검증 결과 유지 시간
+     */
+    public record VerifiedCache(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("10000") int maxSize,
+            @DefaultValue("30s") Duration ttl
+    ) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.sparta.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 게시글 단건 조회 응답 본문(JSON 바이트) 캐시 설정 (board.cache.post-body)
+ *
+ * @param enabled     캐시 사용 여부
+ * @param maxSize     최대 캐시 게시글 수, 초과 시 가장 오래 조회되지 않은 게시글부터 제거
+ * @param ttl         캐시 만료 시간
+ * @param gzipMinSize gzip 압축본을 함께 만들 최소 본문 크기(바이트), 더 작으면 압축하지 않는다.
+ */
+@ConfigurationProperties(prefix = "board.cache.post-body")
+public record PostBodyCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000") int maxSize,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("2048") int gzipMinSize
+) {
+}
@@ -0,0 +1,15 @@
+package com.sparta.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 게시글 일괄 작성 설정 (board.post.bulk)
+ *
+ * @param maxSize 한 번에 작성할 수 있는 최대 게시글 수
+ */
+@ConfigurationProperties(prefix = "board.post.bulk")
+public record PostBulkProperties(
+        @DefaultValue("100") int maxSize
+) {
+}
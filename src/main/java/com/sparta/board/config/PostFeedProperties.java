@@ -0,0 +1,29 @@
+package com.sparta.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 게시글 작성, 수정, 삭제 실시간 피드(SSE) 설정 (board.post.feed)
+ *
+ * @param bufferSize        재연결 시 다시 보낼 수 있도록 메모리에 보관하는 최근 이벤트 수
+ * @param maxLag            구독자가 받지 못한 이벤트 수가 이 값을 넘으면 느린 구독자로 보고 연결을 끊는다. (bufferSize 이하)
+ * @param maxSubscribers    최대 동시 구독자 수, 초과 시 503 응답
+ * @param senderThreads     구독자에게 이벤트를 보내는 스레드 수
+ * @param sendTimeout       이벤트 한 건 쓰기가 이 시간을 넘으면 막힌 연결로 보고 연결을 끊고, 막힌 전송 스레드 대신 스레드를 추가한다.
+ * @param timeout           연결 유지 시간, 만료되면 클라이언트가 Last-Event-ID 로 재연결한다.
+ * @param heartbeatInterval 유휴 연결 유지, 끊긴 연결 확인용 주석(comment) 전송 주기
+ */
+@ConfigurationProperties(prefix = "board.post.feed")
+public record PostFeedProperties(
+        @DefaultValue("1024") int bufferSize,
+        @DefaultValue("256") int maxLag,
+        @DefaultValue("10000") int maxSubscribers,
+        @DefaultValue("2") int senderThreads,
+        @DefaultValue("10s") Duration sendTimeout,
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("30s") Duration heartbeatInterval
+) {
+}
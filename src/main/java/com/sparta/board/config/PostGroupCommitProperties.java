@@ -0,0 +1,25 @@
+package com.sparta.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 게시글 작성 그룹 커밋 설정 (board.post.group-commit)
+ *
+ * @param enabled       동시에 들어온 게시글 작성 요청을 모아 한 트랜잭션으로 저장할지 여부
+ * @param maxBatchSize  한 번에 저장할 최대 게시글 수 (JDBC batch_size 이하 권장)
+ * @param maxDelay      첫 요청 이후 다른 요청을 기다리는 최대 시간
+ * @param queueCapacity 저장 대기 요청 수, 초과 시 503 응답
+ * @param maxWait       요청 스레드가 커밋을 기다리는 최대 시간, 초과 시 503 응답
+ */
+@ConfigurationProperties(prefix = "board.post.group-commit")
+public record PostGroupCommitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("50") int maxBatchSize,
+        @DefaultValue("5ms") Duration maxDelay,
+        @DefaultValue("1000") int queueCapacity,
+        @DefaultValue("5s") Duration maxWait
+) {
+}
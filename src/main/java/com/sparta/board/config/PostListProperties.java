@@ -0,0 +1,19 @@
+package com.sparta.board.config;
+
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 게시글 목록 응답 설정 (board.post.list)
+ * 음수 미리보기 길이는 목록 요청마다 예외가 발생하므로 시작 시 거부한다.
+ *
+ * @param excerptLength 목록에 포함할 내용 미리보기 글자 수, 0 이면 미리보기 제외
+ */
+@Validated
+@ConfigurationProperties(prefix = "board.post.list")
+public record PostListProperties(
+        @DefaultValue("100") @PositiveOrZero int excerptLength
+) {
+}
@@ -0,0 +1,23 @@
+package com.sparta.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 게시글 목록 첫 페이지 스냅샷 설정 (board.cache.post-list)
+ *
+ * @param enabled              스냅샷 사용 여부
+ * @param size                 스냅샷으로 유지할 최신 게시글 수
+ * @param maxAge               스냅샷을 DB 에서 다시 조회하는 주기
+ * @param staleWhileRevalidate true 이면 재조회 중이거나 DB 조회가 실패해도 마지막 스냅샷을 반환
+ */
+@ConfigurationProperties(prefix = "board.cache.post-list")
+public record PostListSnapshotProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100") int size,
+        @DefaultValue("30s") Duration maxAge,
+        @DefaultValue("true") boolean staleWhileRevalidate
+) {
+}
@@ -0,0 +1,27 @@
+package com.sparta.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 삭제 표시된 게시글 정리 설정 (board.post.purge)
+ *
+ * @param enabled          주기적으로 삭제 게시글을 실제로 삭제할지 여부
+ * @param retention        삭제 표시 후 실제 삭제까지 보존 기간
+ * @param interval         정리 주기
+ * @param batchSize        한 트랜잭션에서 삭제할 최대 게시글 수
+ * @param maxBatchesPerRun 한 주기에 실행할 최대 삭제 트랜잭션 수
+ * @param batchPause       삭제 트랜잭션 사이 대기 시간 (잠금 대기, 복제 지연 완화)
+ */
+@ConfigurationProperties(prefix = "board.post.purge")
+public record PostPurgeProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10m") Duration retention,
+        @DefaultValue("1m") Duration interval,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("10") int maxBatchesPerRun,
+        @DefaultValue("100ms") Duration batchPause
+) {
+}
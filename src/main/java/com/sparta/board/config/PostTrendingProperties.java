@@ -0,0 +1,27 @@
+package com.sparta.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 인기 게시글(최근 조회 빈도 순위) 설정 (board.post.trending)
+ *
+ * @param size            순위를 유지할 게시글 수 (조회 가능한 최대 게시글 수)
+ * @param maxCandidates   순위 후보로 추적할 최대 게시글 수
+ * @param sketchWidth     조회 빈도 스케치 행별 카운터 수 (2의 제곱수로 올림), 클수록 추정 오차가 줄어든다.
+ * @param sketchDepth     조회 빈도 스케치 행 수 (해시 함수 수), 클수록 큰 오차가 날 확률이 줄어든다.
+ * @param halfLife        조회 빈도 반감 주기, 이 주기마다 모든 빈도를 절반으로 줄여 최근 조회에 가중치를 둔다.
+ * @param refreshInterval 순위, 응답 목록 갱신 주기
+ */
+@ConfigurationProperties(prefix = "board.post.trending")
+public record PostTrendingProperties(
+        @DefaultValue("10") int size,
+        @DefaultValue("100") int maxCandidates,
+        @DefaultValue("2048") int sketchWidth,
+        @DefaultValue("4") int sketchDepth,
+        @DefaultValue("5m") Duration halfLife,
+        @DefaultValue("1s") Duration refreshInterval
+) {
+}
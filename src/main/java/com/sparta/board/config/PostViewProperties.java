@@ -0,0 +1,17 @@
+package com.sparta.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 게시글 조회수 설정 (board.post.views)
+ *
+ * @param flushInterval 메모리에 모은 조회수를 DB 에 반영하는 주기
+ */
+@ConfigurationProperties(prefix = "board.post.views")
+public record PostViewProperties(
+        @DefaultValue("1s") Duration flushInterval
+) {
+}
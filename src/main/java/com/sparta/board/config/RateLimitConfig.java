@@ -0,0 +1,37 @@
+package com.sparta.board.config;
+
+import com.sparta.board.filter.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class RateLimitConfig {
+
+    /**
+     * 게시글 API 쓰기 요청 처리율 제한 필터 등록
+     * 필터를 컴포넌트 대신 설정 클래스에서 등록해 컨트롤러 슬라이스 테스트(@WebMvcTest)에는 포함되지 않는다.
+     * 일괄 작성 요청은 최대 게시글 수(board.post.bulk.max-size)만큼 토큰을 사용한다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "board.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            RateLimitProperties properties,
+            PostBulkProperties postBulkProperties,
+            MeterRegistry meterRegistry
+    ) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(properties, postBulkProperties.maxSize(), meterRegistry)
+        );
+        registration.addUrlPatterns("/api/*");
+        log.info("쓰기 요청을 클라이언트별 초당 {}개(최대 {}개), 전체 초당 {}개(최대 {}개)로 제한합니다. (일괄 작성은 요청당 {}개)",
+                properties.client().refillPerSecond(), properties.client().capacity(),
+                properties.global().refillPerSecond(), properties.global().capacity(),
+                postBulkProperties.maxSize());
+        return registration;
+    }
+}
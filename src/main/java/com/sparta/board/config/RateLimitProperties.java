@@ -0,0 +1,45 @@
+package com.sparta.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 쓰기 요청(작성, 수정, 삭제) 처리율 제한 설정 (board.rate-limit)
+ * 작성, 수정, 삭제는 요청마다 bcrypt 를 계산하므로 서비스에 도달하기 전에 초과 요청을 429 로 거절한다.
+ *
+ * @param enabled 처리율 제한 사용 여부
+ * @param client  클라이언트(IP)별 토큰 버킷
+ * @param global  전체 쓰기 요청 토큰 버킷
+ */
+@ConfigurationProperties(prefix = "board.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue Client client,
+        @DefaultValue Global global
+) {
+    /**
+     * @param capacity        한 번에 허용하는 최대 요청 수 (버킷 크기)
+     * @param refillPerSecond 초당 채워지는 토큰 수
+     * @param maxTracked      유지할 최대 클라이언트 버킷 수, 도달하면 새 클라이언트는 하나의 공유 버킷을 함께 사용
+     * @param sweepInterval   가득 찬(유휴) 클라이언트 버킷 정리 주기
+     */
+    public record Client(
+            @DefaultValue("10") int capacity,
+            @DefaultValue("5") double refillPerSecond,
+            @DefaultValue("100000") int maxTracked,
+            @DefaultValue("10s") Duration sweepInterval
+    ) {
+    }
+
+    /**
+     * @param capacity        한 번에 허용하는 최대 요청 수 (버킷 크기)
+     * @param refillPerSecond 초당 채워지는 토큰 수
+     */
+    public record Global(
+            @DefaultValue("200") int capacity,
+            @DefaultValue("100") double refillPerSecond
+    ) {
+    }
+}
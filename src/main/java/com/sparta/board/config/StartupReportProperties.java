@@ -0,0 +1,17 @@
+package com.sparta.board.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 시작 단계별 소요 시간 보고 설정 (board.startup.report)
+ *
+ * @param enabled 시작을 마친 뒤 가장 오래 걸린 시작 단계를 로그로 남길지 여부
+ * @param steps   로그로 남길 시작 단계 수
+ */
+@ConfigurationProperties(prefix = "board.startup.report")
+public record StartupReportProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10") int steps
+) {
+}
@@ -1,26 +1,62 @@
 package com.sparta.board.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.board.cache.PostBody;
+import com.sparta.board.config.PostBulkProperties;
 import com.sparta.board.dto.request.PostRequest;
+import com.sparta.board.dto.response.BulkPostResponse;
+import com.sparta.board.dto.response.PostPageResponse;
 import com.sparta.board.dto.response.PostResponse;
+import com.sparta.board.dto.response.PostSearchResponse;
+import com.sparta.board.service.PostExportService;
 import com.sparta.board.service.PostService;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RequestMapping("/api/posts")
 @RestController
 public class PostController {
     private final PostService postService;
+    private final PostExportService postExportService;
+    private final Validator validator;
+    private final PostBulkProperties postBulkProperties;
+    private final ObjectMapper objectMapper;
 
-    public PostController(PostService postService) {
+    public PostController(
+            PostService postService,
+            PostExportService postExportService,
+            Validator validator,
+            PostBulkProperties postBulkProperties,
+            ObjectMapper objectMapper
+    ) {
         this.postService = postService;
+        this.postExportService = postExportService;
+        this.validator = validator;
+        this.postBulkProperties = postBulkProperties;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -41,14 +77,99 @@ public class PostController {
 
     }
 
+    /**
+     * 게시글 일괄 작성
+     * 유효성 검증은 게시글마다 따로 하며, 실패한 게시글이 있어도 나머지 게시글은 작성한다.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createPosts(@RequestBody List<PostRequest> requests) {
+        int maxSize = postBulkProperties.maxSize();
+        if (requests.isEmpty() || requests.size() > maxSize) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("msg", "게시글은 한 번에 1개 이상 " + maxSize + "개 이하로 작성할 수 있습니다."));
+        }
+
+        //유효성 검증
+        Map<Integer, Map<String, String>> errorMaps = new HashMap<>();
+        List<PostRequest> validRequests = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            Map<String, String> errorMap = validate(requests.get(i));
+            if (errorMap.isEmpty()) {
+                validRequests.add(requests.get(i));
+            } else {
+                errorMaps.put(i, errorMap);
+            }
+        }
+
+        List<PostResponse> created = validRequests.isEmpty() ? List.of() : postService.createPosts(validRequests);
+
+        List<BulkPostResponse> results = new ArrayList<>(requests.size());
+        Iterator<PostResponse> createdIterator = created.iterator();
+        for (int i = 0; i < requests.size(); i++) {
+            results.add(errorMaps.containsKey(i)
+                    ? BulkPostResponse.failed(i, errorMaps.get(i))
+                    : BulkPostResponse.created(i, createdIterator.next()));
+        }
+
+        HttpStatus status = created.isEmpty() ? HttpStatus.BAD_REQUEST : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(results);
+    }
+
     @GetMapping
-    public ResponseEntity<List<PostResponse>> getPosts() {
-        return ResponseEntity.ok(postService.getPosts());
+    public ResponseEntity<byte[]> getPosts(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "20") int limit
+    ) throws JsonProcessingException {
+        // 한 번 직렬화한 본문으로 ETag 를 만들어 응답하고, If-None-Match 가 일치하면 본문 없이 304 응답
+        PostPageResponse page = postService.getPosts(cursor, limit);
+        byte[] body = objectMapper.writeValueAsBytes(page);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).eTag(pageETag(body)).body(body);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<PostSearchResponse> searchPosts(
+            @RequestParam(value = "q") String query,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(postService.searchPosts(query, page, size));
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<PostResponse>> getTrendingPosts(
+            @RequestParam(value = "limit", defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(postService.getTrendingPosts(limit));
+    }
+
+    // 전체 게시글을 NDJSON 으로 응답 스트림에 바로 출력
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPosts() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts.ndjson\"")
+                .body(postExportService::exportPosts);
     }
 
     @GetMapping("/{postId}")
-    public ResponseEntity<?> getPost(@PathVariable(value = "postId") Long id) {
-        return ResponseEntity.ok(postService.getPost(id));
+    public ResponseEntity<?> getPost(@PathVariable(value = "postId") Long id, WebRequest webRequest) {
+        // ETag, Last-Modified 는 응답할 본문과 같은 캐시된 게시글의 수정 시각으로 만들고, 변경이 없으면 304 응답
+        PostBody body = postService.getPostBody(id);
+        LocalDateTime modifiedDateTime = body.modifiedDateTime();
+        long lastModified = modifiedDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (webRequest.checkNotModified(postETag(id, modifiedDateTime), lastModified)) {
+            return null;
+        }
+        postService.recordView(id);
+
+        // 캐시된 JSON(gzip) 바이트를 메시지 컨버터의 직렬화, 서버 압축 없이 그대로 응답
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (body.hasGzip() && acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return response.body(body.json());
     }
 
     @PutMapping("/{postId}")
@@ -69,4 +190,46 @@ public class PostController {
 
         return ResponseEntity.noContent().build();
     }
+
+    private Map<String, String> validate(PostRequest request) {
+        HashMap<String, String> errorMap = new HashMap<>();
+        if (request == null) {
+            errorMap.put("request", "게시글 정보를 입력해주세요.");
+            return errorMap;
+        }
+        validator.validate(request)
+                .forEach(violation -> errorMap.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        return errorMap;
+    }
+
+    // Accept-Encoding 에 gzip 이 있고 q=0 으로 거부하지 않은 경우
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    // 게시글 ID 와 수정 시각(나노초 포함)으로 만든 버전 태그
+    // 조회수는 수정 없이 바뀌므로 약한(weak) 태그로 응답한다.
+    private static String postETag(Long id, LocalDateTime modifiedDateTime) {
+        return "W/\"" + id + "-" + Long.toHexString(modifiedDateTime.toEpochSecond(ZoneOffset.UTC))
+                + "." + Integer.toHexString(modifiedDateTime.getNano()) + "\"";
+    }
+
+    // 목록은 삭제도 반영해야 하므로 수정 시각 대신 직렬화한 본문의 SHA-256 을 사용 (본문이 같을 때만 같은 강한 태그)
+    private static String pageETag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
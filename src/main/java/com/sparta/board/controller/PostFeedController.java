@@ -0,0 +1,27 @@
+package com.sparta.board.controller;
+
+import com.sparta.board.feed.PostFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/posts")
+@RestController
+public class PostFeedController {
+    private final PostFeed postFeed;
+
+    /**
+     * 게시글 작성(created), 수정(updated), 삭제(deleted) 이벤트 스트림 (SSE)
+     * 목록을 주기적으로 다시 조회하는 대신 구독하며, 재연결 시 Last-Event-ID 이후 이벤트를 이어 받는다.
+     * reset 이벤트를 받으면 놓친 이벤트를 이어 받을 수 없으므로 목록을 다시 조회한다.
+     */
+    @GetMapping(value = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter feed(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return postFeed.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,182 @@
+package com.sparta.board.datasource;
+
+import com.sparta.board.config.DataSourceRoutingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션에 사용할 복제 DB 선택
+ * 주기적으로 복제 DB 의 연결과 복제 지연을 확인해, 연결할 수 없거나 지연이 허용 시간을 넘은 복제 DB 는
+ * 다시 정상으로 확인될 때까지 선택하지 않는다.
+ */
+@Slf4j
+public class ReplicaRouter implements AutoCloseable {
+    private final List<Replica> replicas;
+    private final DataSourceRoutingProperties.Routing routing;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final Counter fallbackCounter;
+
+    private final ScheduledExecutorService healthCheckExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-health-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReplicaRouter(
+            List<HikariDataSource> replicas,
+            DataSourceRoutingProperties.Routing routing,
+            MeterRegistry meterRegistry
+    ) {
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.routing = routing;
+        // 정상인 복제 DB 가 없어 읽기 전용 트랜잭션을 primary 로 보낸 수
+        this.fallbackCounter = Counter.builder("board.datasource.replica.fallback")
+                .description("정상인 복제 DB 가 없어 primary 를 사용한 읽기 전용 커넥션 수")
+                .register(meterRegistry);
+        for (Replica replica : this.replicas) {
+            Gauge.builder("board.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("복제 DB 상태 (1: 정상, 0: 제외)")
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+        }
+
+        long interval = routing.healthCheckInterval().toMillis();
+        healthCheckExecutor.scheduleWithFixedDelay(this::checkHealth, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 읽기 전용 트랜잭션에 사용할 복제 DB 선택
+     *
+     * @return 정상인 복제 DB 가 없으면 null
+     */
+    public Replica select() {
+        Replica selected = switch (routing.strategy()) {
+            case ROUND_ROBIN -> nextHealthy();
+            case LEAST_CONNECTIONS -> leastConnections();
+        };
+        if (selected == null) {
+            fallbackCounter.increment();
+        }
+        return selected;
+    }
+
+    // 커넥션을 얻지 못한 복제 DB 는 다음 상태 확인에서 정상으로 확인될 때까지 제외
+    public void markDown(Replica replica, SQLException exception) {
+        if (replica.healthy) {
+            log.warn("복제 DB {} 에 연결할 수 없어 제외합니다. ({})", replica.name(), exception.getMessage());
+        }
+        replica.healthy = false;
+    }
+
+    /**
+     * 복제 DB 별 연결, 복제 지연 확인
+     */
+    void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy = isHealthy(replica);
+            if (healthy != replica.healthy) {
+                log.info("복제 DB {} 상태가 {} 로 바뀌었습니다.", replica.name(), healthy ? "정상" : "제외");
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    @Override
+    public void close() {
+        healthCheckExecutor.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource().close());
+    }
+
+    private Replica nextHealthy() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextIndex.getAndIncrement(), size == 0 ? 1 : size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private Replica leastConnections() {
+        Replica selected = null;
+        int selectedConnections = Integer.MAX_VALUE;
+        for (Replica replica : replicas) {
+            if (!replica.healthy) {
+                continue;
+            }
+            int connections = replica.activeConnections();
+            if (connections < selectedConnections) {
+                selected = replica;
+                selectedConnections = connections;
+            }
+        }
+        return selected;
+    }
+
+    private boolean isHealthy(Replica replica) {
+        try (Connection connection = replica.dataSource().getConnection()) {
+            if (!connection.isValid((int) routing.healthCheckInterval().toSeconds() + 1)) {
+                return false;
+            }
+            if (!StringUtils.hasText(routing.lagQuery())) {
+                return true;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(routing.lagQuery())) {
+                if (!resultSet.next()) {
+                    return false;
+                }
+                long lagSeconds = resultSet.getLong(1);
+                // null 이면 복제가 멈춘 상태
+                return !resultSet.wasNull() && lagSeconds <= routing.maxLag().toSeconds();
+            }
+        } catch (SQLException e) {
+            log.debug("복제 DB {} 상태 확인 실패", replica.name(), e);
+            return false;
+        }
+    }
+
+    public static final class Replica {
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return dataSource.getPoolName();
+        }
+
+        public HikariDataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        // 커넥션 풀이 아직 시작되지 않았으면 0
+        private int activeConnections() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool != null ? pool.getActiveConnections() : 0;
+        }
+    }
+}
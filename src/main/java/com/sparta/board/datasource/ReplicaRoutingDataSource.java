@@ -0,0 +1,44 @@
+package com.sparta.board.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 트랜잭션은 복제 DB, 나머지는 primary 커넥션을 반환하는 DataSource
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 동기화되지 않으므로 LazyConnectionDataSourceProxy 로 감싸
+ * 첫 SQL 실행 시점에 커넥션을 얻도록 해야 한다.
+ * 복제 DB 커넥션을 얻지 못하면 해당 복제 DB 를 제외하고 primary 를 사용한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+    private final DataSource primary;
+    private final ReplicaRouter replicaRouter;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaRouter replicaRouter) {
+        this.primary = primary;
+        this.replicaRouter = replicaRouter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReplicaRouter.Replica replica = replicaRouter.select();
+            if (replica != null) {
+                try {
+                    return replica.dataSource().getConnection();
+                } catch (SQLException e) {
+                    replicaRouter.markDown(replica, e);
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+}
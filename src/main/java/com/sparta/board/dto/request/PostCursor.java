@@ -0,0 +1,45 @@
+package com.sparta.board.dto.request;
+
+import com.sparta.board.dto.response.PostSummaryResponse;
+import com.sparta.board.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 페이지 커서
+ * 마지막으로 조회한 게시글의 (작성일, ID)를 Base64 문자열로 인코딩해 클라이언트에 불투명하게 전달한다.
+ */
+public record PostCursor(
+        LocalDateTime createdDateTime,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static PostCursor from(PostSummaryResponse response) {
+        return new PostCursor(response.createdDateTime(), response.id());
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new InvalidCursorException();
+            }
+            return new PostCursor(
+                    LocalDateTime.parse(decoded.substring(0, index)),
+                    Long.parseLong(decoded.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public String encode() {
+        String raw = createdDateTime + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -20,6 +20,10 @@ public record PostRequest(
     }
 
     public Post toEntity(PasswordEncoder passwordEncoder) {
-        return Post.of(name, passwordEncoder.encode(password), title, content);
+        return toEntity(passwordEncoder.encode(password));
+    }
+
+    public Post toEntity(String encodedPassword) {
+        return Post.of(name, encodedPassword, title, content);
     }
 }
@@ -0,0 +1,25 @@
+package com.sparta.board.dto.response;
+
+import java.util.Map;
+
+/**
+ * 게시글 일괄 작성 결과 (요청 순서와 같은 순서로 반환)
+ * 작성에 성공하면 post, 유효성 검증에 실패하면 errors 를 포함한다.
+ */
+public record BulkPostResponse(
+        int index,
+        PostResponse post,
+        Map<String, String> errors
+) {
+    public static BulkPostResponse created(int index, PostResponse post) {
+        return new BulkPostResponse(index, post, null);
+    }
+
+    public static BulkPostResponse failed(int index, Map<String, String> errors) {
+        return new BulkPostResponse(index, null, errors);
+    }
+
+    public boolean isCreated() {
+        return post != null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.sparta.board.dto.response;
+
+import java.util.List;
+
+/**
+ * 게시글 목록 페이지 응답
+ * nextCursor 가 null 이면 마지막 페이지
+ */
+public record PostPageResponse(
+        List<PostSummaryResponse> posts,
+        String nextCursor
+) {
+    public static PostPageResponse of(List<PostSummaryResponse> posts, String nextCursor) {
+        return new PostPageResponse(posts, nextCursor);
+    }
+}
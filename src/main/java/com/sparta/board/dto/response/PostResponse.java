@@ -9,8 +9,11 @@ public record PostResponse(
         String name,
         String title,
         String content,
+        long views,
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
-        LocalDateTime createdDateTime
+        LocalDateTime createdDateTime,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
+        LocalDateTime modifiedDateTime
 ) {
     public static PostResponse from(Post entity) {
         return new PostResponse(
@@ -18,7 +21,18 @@ public record PostResponse(
                 entity.getName(),
                 entity.getTitle(),
                 entity.getContent(),
-                entity.getCreatedDateTime()
+                entity.getViews(),
+                entity.getCreatedDateTime(),
+                entity.getModifiedDateTime()
         );
     }
+
+    // 조건부 조회(ETag, Last-Modified) 기준 시각, 수정 시각이 없으면 작성일
+    public LocalDateTime lastModifiedDateTime() {
+        return modifiedDateTime != null ? modifiedDateTime : createdDateTime;
+    }
+
+    public PostResponse withViews(long views) {
+        return new PostResponse(id, name, title, content, views, createdDateTime, modifiedDateTime);
+    }
 }
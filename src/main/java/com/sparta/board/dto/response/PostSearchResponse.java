@@ -0,0 +1,18 @@
+package com.sparta.board.dto.response;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 결과 페이지 응답
+ * posts 는 검색 점수 순, page 는 0부터 시작
+ */
+public record PostSearchResponse(
+        List<PostResponse> posts,
+        int totalCount,
+        int page,
+        int size
+) {
+    public static PostSearchResponse of(List<PostResponse> posts, int totalCount, int page, int size) {
+        return new PostSearchResponse(posts, totalCount, page, size);
+    }
+}
@@ -0,0 +1,55 @@
+package com.sparta.board.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.sparta.board.entity.Post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 응답
+ * 내용 전체 대신 앞부분(excerpt)만 포함하며, 목록 조회 쿼리에서 필요한 컬럼만 조회해 생성한다.
+ */
+public record PostSummaryResponse(
+        Long id,
+        String name,
+        String title,
+        String excerpt,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
+        LocalDateTime createdDateTime
+) {
+    public PostSummaryResponse {
+        // 미리보기 길이가 0 이면 excerpt 를 포함하지 않는다.
+        if (excerpt != null && excerpt.isEmpty()) {
+            excerpt = null;
+        }
+    }
+
+    public static PostSummaryResponse from(Post entity, int excerptLength) {
+        return new PostSummaryResponse(
+                entity.getId(),
+                entity.getName(),
+                entity.getTitle(),
+                excerpt(entity.getContent(), excerptLength),
+                entity.getCreatedDateTime()
+        );
+    }
+
+    public static PostSummaryResponse from(PostResponse post, int excerptLength) {
+        return new PostSummaryResponse(
+                post.id(),
+                post.name(),
+                post.title(),
+                excerpt(post.content(), excerptLength),
+                post.createdDateTime()
+        );
+    }
+
+    // DB substring 과 같이 문자(code point) 단위로 자른다.
+    private static String excerpt(String content, int excerptLength) {
+        if (content == null) {
+            return null;
+        }
+        int length = Math.min(content.codePointCount(0, content.length()), excerptLength);
+        return content.substring(0, content.offsetByCodePoints(0, length));
+    }
+}
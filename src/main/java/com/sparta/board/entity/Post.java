@@ -1,32 +1,57 @@
 package com.sparta.board.entity;
 
-import com.sparta.board.dto.request.PostRequest;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Where;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "post")
+@Table(name = "post", indexes = {
+        // 목록 커서 페이지네이션(작성일 내림차순, ID 내림차순)용 복합 인덱스
+        @Index(name = "idx_post_created_date_time_id", columnList = "createdDateTime, id"),
+        // 삭제된 게시글 정리(PostPurger)용 인덱스
+        @Index(name = "idx_post_deleted_date_time", columnList = "deletedDateTime")
+})
+// 삭제 표시된 게시글은 조회(findById, JPQL 포함)에서 제외, 실제 삭제는 PostPurger 가 나누어 처리
+@Where(clause = "deleted = false")
 @Entity
 public class Post {
+    // 한 번에 미리 할당하는 ID 수 (jdbc.batch_size 와 동일)
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY 는 INSERT 즉시 실행이 필요해 JDBC 배치가 비활성화되므로 pooled 시퀀스로 ID 를 미리 할당
+    // (MySQL 은 post_seq 테이블로 시퀀스를 대신하며, 기존 게시글 ID 와 겹치지 않도록 PostSequenceAligner 가 시작 시 보정한다.)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     private String name;
     private String password;
     private String title;
     private String content;
 
+    // 조회수는 PostViewCounter 가 모아서 직접 UPDATE 하므로 엔티티 수정 시 덮어쓰지 않는다.
+    @Column(nullable = false, updatable = false)
+    private long views;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdDateTime;
 
+    // 조건부 조회(ETag, Last-Modified) 기준, 작성 시에도 작성일과 같은 값으로 채워진다.
+    @LastModifiedDate
+    private LocalDateTime modifiedDateTime;
+
+    private boolean deleted;
+    private LocalDateTime deletedDateTime;
+
     public Post(String name, String password, String title, String content) {
         this.name = name;
         this.password = password;
@@ -37,10 +62,4 @@ public class Post {
     public static Post of(String name, String password, String title, String content) {
         return new Post(name, password, title, content);
     }
-
-    public void updatePost(PostRequest request) {
-        this.name = request.name();
-        this.title = request.title();
-        this.content = request.content();
-    }
 }
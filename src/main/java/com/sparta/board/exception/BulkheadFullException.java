@@ -0,0 +1,7 @@
+package com.sparta.board.exception;
+
+public class BulkheadFullException extends RuntimeException {
+    public BulkheadFullException() {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
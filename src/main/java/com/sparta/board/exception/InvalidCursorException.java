@@ -0,0 +1,7 @@
+package com.sparta.board.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException() {
+        super("유효하지 않은 페이지 커서입니다.");
+    }
+}
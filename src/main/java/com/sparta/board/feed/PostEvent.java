@@ -0,0 +1,26 @@
+package com.sparta.board.feed;
+
+import com.sparta.board.dto.response.PostSummaryResponse;
+
+/**
+ * 게시글 피드 이벤트
+ *
+ * @param sequence 이벤트 순번 (SSE id 에 사용)
+ * @param type     이벤트 종류 (SSE event 이름)
+ * @param postId   게시글 ID
+ * @param post     작성, 수정된 게시글 목록 항목, 삭제 이벤트는 null
+ */
+public record PostEvent(
+        long sequence,
+        Type type,
+        Long postId,
+        PostSummaryResponse post
+) {
+    public enum Type {
+        CREATED, UPDATED, DELETED;
+
+        public String eventName() {
+            return name().toLowerCase();
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package com.sparta.board.feed;
+
+import com.sparta.board.config.PostFeedProperties;
+import com.sparta.board.dto.response.PostSummaryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 작성, 수정, 삭제 실시간 피드 (SSE)
+ * 이벤트는 최근 bufferSize 개만 메모리 링 버퍼에 보관하며, 재연결한 클라이언트는 Last-Event-ID 이후 이벤트를
+ * DB 조회 없이 링 버퍼에서 이어 받는다.
+ * 이벤트 발행은 링 버퍼에 추가만 하고 전송은 전송 스레드가 구독자별로 처리하므로, 느린 구독자가 게시글 작성, 수정,
+ * 삭제를 막지 않는다. 받지 못한 이벤트가 maxLag 를 넘은 구독자는 연결을 끊는다.
+ * 서블릿 쓰기는 블로킹이므로 쓰기가 sendTimeout 을 넘게 막힌 구독자도 연결을 끊고, 막힌 전송 스레드 대신 전송 스레드를
+ * 추가해 다른 구독자 전송이 멈추지 않게 한다. 막힌 쓰기는 컨테이너 소켓 쓰기 타임아웃에서 실패하며 그때 스레드를 줄인다.
+ * 유휴 연결은 서블릿 비동기 요청으로 유지되어 스레드를 점유하지 않는다.
+ */
+@Slf4j
+@Component
+public class PostFeed {
+    private static final int SEND_BATCH_SIZE = 64;
+    private static final long STALLED = Long.MIN_VALUE;
+
+    // 재시작 이전 프로세스의 이벤트 ID 로 재연결한 경우를 구분하기 위한 이벤트 ID 접두사
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+    private final PostFeedProperties properties;
+    private final PostEvent[] buffer;
+    // 마지막으로 발행한 이벤트 순번 (this 로 동기화)
+    private long lastSequence;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean fanOutPending = new AtomicBoolean();
+    private final MeterRegistry meterRegistry;
+
+    // 구독자별 전송 예약, 유휴 연결 주석 전송
+    private final ScheduledExecutorService dispatchExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-feed-dispatch");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ThreadPoolExecutor sendExecutor;
+
+    public PostFeed(PostFeedProperties properties, MeterRegistry meterRegistry) {
+        if (properties.maxLag() > properties.bufferSize()) {
+            throw new IllegalArgumentException("board.post.feed.max-lag 는 buffer-size 이하여야 합니다.");
+        }
+        this.properties = properties;
+        this.buffer = new PostEvent[properties.bufferSize()];
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sendExecutor = new ThreadPoolExecutor(properties.senderThreads(), properties.senderThreads(),
+                0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "post-feed-send-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        meterRegistry.gaugeCollectionSize("board.post.feed.subscribers", Tags.empty(), subscribers);
+
+        long heartbeat = properties.heartbeatInterval().toMillis();
+        dispatchExecutor.scheduleWithFixedDelay(this::heartbeat, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+        long stallCheck = Math.max(1, properties.sendTimeout().toMillis() / 2);
+        dispatchExecutor.scheduleWithFixedDelay(this::dropStalled, stallCheck, stallCheck, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 이벤트 발행 (커밋 이후 호출)
+     * 링 버퍼에 추가하고 전송 예약만 요청하므로 구독자 수, 전송 속도와 관계없이 바로 반환한다.
+     */
+    public void publish(PostEvent.Type type, Long postId, PostSummaryResponse post) {
+        synchronized (this) {
+            lastSequence++;
+            buffer[index(lastSequence)] = new PostEvent(lastSequence, type, postId, post);
+        }
+        if (!subscribers.isEmpty() && fanOutPending.compareAndSet(false, true)) {
+            dispatchExecutor.execute(this::fanOut);
+        }
+    }
+
+    /**
+     * 피드 구독
+     * Last-Event-ID 가 링 버퍼에 남아 있으면 이후 이벤트부터 이어서 보내고,
+     * 보관 기간이 지났거나 재시작 이전 이벤트 ID 이면 reset 이벤트로 목록을 다시 조회하도록 알린다.
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 ID, 처음 연결하면 null
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscribers.size() >= properties.maxSubscribers()) {
+            throw new RejectedExecutionException("피드 구독자가 많아 연결할 수 없습니다.");
+        }
+
+        Long resumeFrom = parseSequence(lastEventId);
+        long latest;
+        boolean resumable;
+        synchronized (this) {
+            latest = lastSequence;
+            resumable = resumeFrom != null && resumeFrom <= lastSequence && resumeFrom >= lastSequence - buffer.length;
+        }
+
+        SseEmitter emitter = createEmitter(properties.timeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, resumable ? resumeFrom : latest);
+        emitter.onCompletion(() -> closed(subscriber));
+        emitter.onTimeout(() -> closed(subscriber));
+        emitter.onError(e -> closed(subscriber));
+        try {
+            if (lastEventId != null && !resumable) {
+                emitter.send(SseEmitter.event().id(eventId(latest)).name("reset").data(""));
+            } else {
+                emitter.send(SseEmitter.event().comment("connected"));
+            }
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+
+        subscribers.add(subscriber);
+        if (subscriber.lastSent < latestSequence()) {
+            scheduleSend(subscriber, false);
+        }
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    SseEmitter createEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    int senderThreads() {
+        return sendExecutor.getCorePoolSize();
+    }
+
+    /**
+     * sequence 이후 이벤트를 최대 limit 개 반환
+     *
+     * @return 링 버퍼에서 이미 밀려난 이벤트가 포함되면 null
+     */
+    synchronized List<PostEvent> eventsAfter(long sequence, int limit) {
+        if (sequence < lastSequence - buffer.length) {
+            return null;
+        }
+        int count = (int) Math.max(0, Math.min(limit, lastSequence - sequence));
+        List<PostEvent> events = new ArrayList<>(count);
+        for (long next = sequence + 1; next <= sequence + count; next++) {
+            events.add(buffer[index(next)]);
+        }
+        return events;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdownNow();
+        sendExecutor.shutdownNow();
+        subscribers.forEach(this::complete);
+        subscribers.clear();
+    }
+
+    // 받지 못한 이벤트가 있는 구독자만 전송 예약, 너무 뒤처진 구독자는 연결 종료
+    private void fanOut() {
+        fanOutPending.set(false);
+        long latest = latestSequence();
+        for (Subscriber subscriber : subscribers) {
+            if (latest - subscriber.lastSent > properties.maxLag()) {
+                drop(subscriber, "slow");
+            } else if (subscriber.lastSent < latest) {
+                scheduleSend(subscriber, false);
+            }
+        }
+    }
+
+    private void heartbeat() {
+        subscribers.forEach(subscriber -> scheduleSend(subscriber, true));
+    }
+
+    // 쓰기가 sendTimeout 을 넘게 막힌 구독자는 연결을 끊고, 막힌 전송 스레드 대신 전송 스레드를 하나 추가
+    private void dropStalled() {
+        long now = System.nanoTime();
+        long timeout = properties.sendTimeout().toNanos();
+        for (Subscriber subscriber : subscribers) {
+            long startedAt = subscriber.writeStartedAt.get();
+            if (startedAt != 0 && startedAt != STALLED && now - startedAt > timeout
+                    && subscriber.writeStartedAt.compareAndSet(startedAt, STALLED)) {
+                resizeSenders(1);
+                drop(subscriber, "stalled");
+            }
+        }
+    }
+
+    private void resizeSenders(int delta) {
+        synchronized (sendExecutor) {
+            int size = sendExecutor.getCorePoolSize() + delta;
+            if (delta > 0) {
+                sendExecutor.setMaximumPoolSize(size);
+                sendExecutor.setCorePoolSize(size);
+            } else {
+                sendExecutor.setCorePoolSize(size);
+                sendExecutor.setMaximumPoolSize(size);
+            }
+        }
+    }
+
+    // 구독자별로 전송 작업은 한 번에 하나만 실행되며, 전송 중이면 전송 스레드가 이어서 보낸다.
+    private void scheduleSend(Subscriber subscriber, boolean heartbeat) {
+        if (subscriber.sending.compareAndSet(false, true)) {
+            try {
+                sendExecutor.execute(() -> send(subscriber, heartbeat));
+            } catch (RejectedExecutionException e) {
+                subscriber.sending.set(false);
+            }
+        }
+    }
+
+    private void send(Subscriber subscriber, boolean heartbeat) {
+        try {
+            if (heartbeat) {
+                write(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+            while (!subscriber.dropped) {
+                List<PostEvent> events = eventsAfter(subscriber.lastSent, SEND_BATCH_SIZE);
+                if (events == null) {
+                    drop(subscriber, "slow");
+                    break;
+                }
+                if (events.isEmpty()) {
+                    break;
+                }
+                for (PostEvent event : events) {
+                    write(subscriber, SseEmitter.event()
+                            .id(eventId(event.sequence()))
+                            .name(event.type().eventName())
+                            .data(event, MediaType.APPLICATION_JSON));
+                    subscriber.lastSent = event.sequence();
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결이 끊겼거나 이미 종료된 연결
+            drop(subscriber, "disconnected");
+            subscriber.dropped = true;
+        } finally {
+            subscriber.sending.set(false);
+        }
+
+        // 전송 중 연결 종료가 요청되었으면 여기서 종료하고, 전송을 마친 뒤 발행된 이벤트가 있으면 다시 예약
+        if (subscriber.dropped) {
+            if (subscriber.sending.compareAndSet(false, true)) {
+                complete(subscriber);
+            }
+        } else if (subscriber.lastSent < latestSequence()) {
+            scheduleSend(subscriber, false);
+        }
+    }
+
+    private void write(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        long startedAt = System.nanoTime();
+        subscriber.writeStartedAt.set(startedAt == 0 || startedAt == STALLED ? 1 : startedAt);
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            // 막힌 쓰기로 추가했던 전송 스레드 반환
+            if (subscriber.writeStartedAt.getAndSet(0) == STALLED) {
+                resizeSenders(-1);
+            }
+        }
+    }
+
+    // 전송 중인 구독자는 전송이 막혀 있어도 기다리지 않고, 전송 스레드가 전송을 마친 뒤 연결을 종료한다.
+    private void drop(Subscriber subscriber, String reason) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        subscriber.dropped = true;
+        meterRegistry.counter("board.post.feed.dropped", "reason", reason).increment();
+        log.debug("피드 구독자 연결을 종료합니다. ({})", reason);
+        if (subscriber.sending.compareAndSet(false, true)) {
+            complete(subscriber);
+        }
+    }
+
+    // 연결 종료, 만료, 오류로 컨테이너가 비동기 요청을 끝낸 경우
+    private void closed(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscriber.dropped = true;
+        subscribers.remove(subscriber);
+    }
+
+    private void complete(Subscriber subscriber) {
+        if (!subscriber.closed) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private synchronized long latestSequence() {
+        return lastSequence;
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % buffer.length);
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    // 현재 프로세스에서 발행한 이벤트 ID 가 아니면 null
+    private Long parseSequence(String eventId) {
+        if (eventId == null || !eventId.startsWith(epoch + "-")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        // 진행 중인 쓰기 시작 시각 (System.nanoTime), 쓰는 중이 아니면 0, 막힌 쓰기로 전송 스레드를 추가했으면 STALLED
+        private final AtomicLong writeStartedAt = new AtomicLong();
+        // 마지막으로 보낸 이벤트 순번
+        private volatile long lastSent;
+        private volatile boolean dropped;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, long lastSent) {
+            this.emitter = emitter;
+            this.lastSent = lastSent;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.sparta.board.filter;
+
+import com.sparta.board.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 쓰기 요청(작성, 수정, 삭제) 처리율 제한 필터
+ * 클라이언트(IP)별 버킷과 전체 버킷에서 토큰을 하나씩 사용하며, 토큰이 없으면 서비스에 도달하기 전에 429 로 거절한다.
+ * 잘못된 비밀번호로 반복 요청해도 bcrypt 계산이 모든 코어를 점유하지 않도록 한다.
+ * 일괄 작성(POST /api/posts/bulk)은 게시글마다 bcrypt 를 계산하므로 본문을 읽기 전에 알 수 있는
+ * 최대 게시글 수(board.post.bulk.max-size)만큼 토큰을 사용한다.
+ * 클라이언트 버킷은 최대 maxTracked 개까지만 만들고, 그 이후 새 클라이언트는 하나의 공유(overflow) 버킷을 함께 사용한다.
+ * 유휴 버킷은 요청 처리 중이 아니라 sweepInterval 마다 별도 스레드에서 정리한다.
+ * 프록시 뒤에서 실행하면 server.forward-headers-strategy 로 클라이언트 IP 를 사용하도록 설정해야 한다.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final Set<String> WRITE_METHODS = Set.of(
+            HttpMethod.POST.name(), HttpMethod.PUT.name(), HttpMethod.PATCH.name(), HttpMethod.DELETE.name()
+    );
+    private static final String BULK_PATH = "/api/posts/bulk";
+    private static final long ONE_SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final String REJECTED_BODY = "{\"msg\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\"}";
+
+    private final RateLimitProperties.Client clientProperties;
+    // 일괄 작성 요청 하나가 사용하는 토큰 수
+    private final int bulkPermits;
+    private final LongSupplier nanoClock;
+    private final TokenBucket globalBucket;
+    private final ConcurrentMap<String, TokenBucket> clientBuckets = new ConcurrentHashMap<>();
+    // 클라이언트 버킷 수가 maxTracked 에 도달한 뒤 새 클라이언트가 함께 사용하는 버킷
+    private final TokenBucket overflowBucket;
+    private final Counter clientRejected;
+    private final Counter overflowRejected;
+    private final Counter globalRejected;
+
+    private final ScheduledExecutorService sweepExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rate-limit-sweep");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RateLimitFilter(RateLimitProperties properties, int bulkPermits, MeterRegistry meterRegistry) {
+        this(properties, bulkPermits, meterRegistry, System::nanoTime);
+    }
+
+    RateLimitFilter(
+            RateLimitProperties properties,
+            int bulkPermits,
+            MeterRegistry meterRegistry,
+            LongSupplier nanoClock
+    ) {
+        this.clientProperties = properties.client();
+        this.bulkPermits = bulkPermits;
+        this.nanoClock = nanoClock;
+        this.globalBucket = new TokenBucket(
+                properties.global().capacity(), properties.global().refillPerSecond(), nanoClock.getAsLong()
+        );
+        this.overflowBucket = new TokenBucket(
+                clientProperties.capacity(), clientProperties.refillPerSecond(), nanoClock.getAsLong()
+        );
+        // 거절된 요청 수 (board.rate-limit.rejected, 거절한 버킷별)
+        this.clientRejected = meterRegistry.counter("board.rate-limit.rejected", "scope", "client");
+        this.overflowRejected = meterRegistry.counter("board.rate-limit.rejected", "scope", "overflow");
+        this.globalRejected = meterRegistry.counter("board.rate-limit.rejected", "scope", "global");
+        meterRegistry.gaugeMapSize("board.rate-limit.clients", Tags.empty(), clientBuckets);
+
+        long sweepInterval = clientProperties.sweepInterval().toMillis();
+        sweepExecutor.scheduleWithFixedDelay(this::evictIdle, sweepInterval, sweepInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        sweepExecutor.shutdownNow();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !WRITE_METHODS.contains(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        long now = nanoClock.getAsLong();
+        int permits = permits(request);
+        TokenBucket clientBucket = clientBucket(request.getRemoteAddr(), now);
+        if (!clientBucket.tryAcquire(now, permits)) {
+            (clientBucket == overflowBucket ? overflowRejected : clientRejected).increment();
+            reject(response, clientBucket.nanosUntilAvailable(now, permits));
+            return;
+        }
+        if (!globalBucket.tryAcquire(now, permits)) {
+            clientBucket.release(permits);
+            globalRejected.increment();
+            reject(response, globalBucket.nanosUntilAvailable(now, permits));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // 요청이 사용할 토큰 수, 일괄 작성은 실제 게시글 수와 관계없이 최대 게시글 수
+    private int permits(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return HttpMethod.POST.matches(request.getMethod()) && BULK_PATH.equals(path) ? bulkPermits : 1;
+    }
+
+    // 유지 중인 클라이언트 버킷 수
+    int trackedClients() {
+        return clientBuckets.size();
+    }
+
+    private TokenBucket clientBucket(String client, long now) {
+        TokenBucket bucket = clientBuckets.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        // 동시에 들어온 새 클라이언트 수만큼 maxTracked 를 잠시 넘을 수 있지만, 계속 늘어나지는 않는다.
+        if (clientBuckets.size() >= clientProperties.maxTracked()) {
+            return overflowBucket;
+        }
+        return clientBuckets.computeIfAbsent(client, key -> new TokenBucket(
+                clientProperties.capacity(), clientProperties.refillPerSecond(), now
+        ));
+    }
+
+    // 가득 찬 버킷은 새 버킷과 같으므로 제거해도 제한이 느슨해지지 않는다.
+    void evictIdle() {
+        long now = nanoClock.getAsLong();
+        int before = clientBuckets.size();
+        clientBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        log.debug("유휴 클라이언트 버킷 {}개를 제거했습니다.", before - clientBuckets.size());
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterNanos) throws IOException {
+        // 다음 토큰이 채워질 때까지 남은 시간 (초 단위 올림)
+        long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + ONE_SECOND_NANOS - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(REJECTED_BODY);
+    }
+}
@@ -0,0 +1,77 @@
+package com.sparta.board.filter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷
+ * 남은 토큰 수 대신 버킷이 다시 가득 차는 시각 하나만 CAS 로 갱신한다. (GCRA)
+ * 토큰 하나를 쓰면 가득 차는 시각이 토큰 하나가 채워지는 시간만큼 늦춰지고,
+ * 가득 차는 시각이 현재로부터 버킷 크기만큼의 시간보다 멀어지면 토큰이 없는 상태다.
+ * 버킷 크기보다 많은 토큰은 버킷이 가득 찼을 때만 사용할 수 있고, 넘는 만큼 이후 채워질 토큰을 미리 사용한다.
+ */
+final class TokenBucket {
+    // 토큰 하나가 채워지는 시간
+    private final long refillIntervalNanos;
+    // 빈 버킷이 가득 차는 데 걸리는 시간
+    private final long capacityNanos;
+    // 버킷이 가득 차는 시각 (System.nanoTime 기준)
+    private final AtomicLong fullAt;
+
+    TokenBucket(int capacity, double refillPerSecond, long now) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("토큰 버킷 크기와 초당 토큰 수는 0 보다 커야 합니다.");
+        }
+        this.refillIntervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.capacityNanos = refillIntervalNanos * capacity;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * 토큰 하나 사용
+     *
+     * @return 토큰이 없으면 false
+     */
+    boolean tryAcquire(long now) {
+        return tryAcquire(now, 1);
+    }
+
+    /**
+     * 토큰 permits 개 사용
+     *
+     * @return 토큰이 부족하면 false
+     */
+    boolean tryAcquire(long now, int permits) {
+        long cost = refillIntervalNanos * permits;
+        while (true) {
+            long current = fullAt.get();
+            long start = current - now > 0 ? current : now;
+            if (start - now + required(cost) > capacityNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, start + cost)) {
+                return true;
+            }
+        }
+    }
+
+    // 사용한 토큰 반환 (다른 버킷에서 거절되어 요청을 처리하지 않은 경우)
+    void release(int permits) {
+        fullAt.addAndGet(-refillIntervalNanos * permits);
+    }
+
+    // 토큰 permits 개를 사용할 수 있을 때까지 남은 시간
+    long nanosUntilAvailable(long now, int permits) {
+        return Math.max(0L, fullAt.get() + required(refillIntervalNanos * permits) - capacityNanos - now);
+    }
+
+    // 사용하려면 남아 있어야 하는 토큰 (버킷 크기보다 많으면 가득 찬 버킷)
+    private long required(long cost) {
+        return Math.min(cost, capacityNanos);
+    }
+
+    // 가득 찬 버킷은 새로 만든 버킷과 같으므로 제거해도 된다.
+    boolean isFull(long now) {
+        return fullAt.get() - now <= 0;
+    }
+}
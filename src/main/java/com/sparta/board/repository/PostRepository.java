@@ -1,8 +1,161 @@
 package com.sparta.board.repository;
 
+import com.sparta.board.dto.response.PostResponse;
+import com.sparta.board.dto.response.PostSummaryResponse;
 import com.sparta.board.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// 선언한 조회 메서드도 서비스 트랜잭션 밖에서 읽기 전용 트랜잭션으로 실행
+@Transactional(readOnly = true)
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    /**
+     * 최신 게시글부터 첫 페이지 조회 (idx_post_created_date_time_id 인덱스 사용)
+     * 목록에 필요한 컬럼과 내용 앞부분만 조회하며 엔티티를 영속성 컨텍스트에 올리지 않는다.
+     */
+    @Query("""
+            select new com.sparta.board.dto.response.PostSummaryResponse(
+                p.id, p.name, p.title, substring(p.content, 1, :excerptLength), p.createdDateTime
+            )
+            from Post p
+            order by p.createdDateTime desc, p.id desc
+            """)
+    List<PostSummaryResponse> findFirstPage(@Param("excerptLength") int excerptLength, Pageable pageable);
+
+    /**
+     * 커서(작성일, ID) 이후의 다음 페이지 조회
+     * OFFSET 없이 인덱스 범위 스캔으로 페이지 크기만큼만 읽는다.
+     */
+    @Query("""
+            select new com.sparta.board.dto.response.PostSummaryResponse(
+                p.id, p.name, p.title, substring(p.content, 1, :excerptLength), p.createdDateTime
+            )
+            from Post p
+            where p.createdDateTime < :createdDateTime
+               or (p.createdDateTime = :createdDateTime and p.id < :id)
+            order by p.createdDateTime desc, p.id desc
+            """)
+    List<PostSummaryResponse> findNextPage(
+            @Param("createdDateTime") LocalDateTime createdDateTime,
+            @Param("id") Long id,
+            @Param("excerptLength") int excerptLength,
+            Pageable pageable
+    );
+
+    /**
+     * 단건 조회 본문 캐시에 넣을 게시글 조회
+     * 수정 커밋 직후 캐시가 무효화된 게시글을 복제 지연이 있는 복제 DB 에서 읽어 캐시에 다시 넣지 않도록
+     * 읽기 전용이 아닌 트랜잭션(primary)에서 조회한다.
+     */
+    @Override
+    @Transactional
+    Optional<Post> findById(Long id);
+
+    /**
+     * 비밀번호 검증용 비밀번호 해시만 조회 (엔티티를 영속성 컨텍스트에 올리지 않는다.)
+     * 검증한 해시로 수정, 삭제하므로 복제 지연이 없도록 읽기 전용이 아닌 트랜잭션(primary)에서 조회한다.
+     */
+    @Transactional
+    @Query("select p.password from Post p where p.id = :id")
+    Optional<String> findPasswordById(@Param("id") Long id);
+
+    /**
+     * 수정 응답용 게시글 조회 (엔티티 대신 응답 DTO 로 조회)
+     */
+    @Query("""
+            select new com.sparta.board.dto.response.PostResponse(
+                p.id, p.name, p.title, p.content, p.views, p.createdDateTime, p.modifiedDateTime
+            )
+            from Post p
+            where p.id = :id
+            """)
+    Optional<PostResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * 게시글 수정 (UPDATE 한 번)
+     * 검증한 비밀번호 해시가 그대로인 경우에만 수정되며, 벌크 UPDATE 라 감사(auditing) 대신 수정 시각을 직접 받는다.
+     *
+     * @param password    검증한 비밀번호 해시
+     * @param newPassword 저장할 비밀번호 해시 (작업 비용이 바뀐 경우 다시 암호화한 값)
+     * @return 수정된 게시글 수, 없거나 비밀번호가 바뀐 경우 0
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update Post p
+            set p.name = :name, p.title = :title, p.content = :content,
+                p.password = :newPassword, p.modifiedDateTime = :modifiedDateTime
+            where p.id = :id and p.password = :password and p.deleted = false
+            """)
+    int updatePost(
+            @Param("id") Long id,
+            @Param("password") String password,
+            @Param("newPassword") String newPassword,
+            @Param("name") String name,
+            @Param("title") String title,
+            @Param("content") String content,
+            @Param("modifiedDateTime") LocalDateTime modifiedDateTime
+    );
+
+    /**
+     * 게시글 삭제 표시 (UPDATE 한 번, 실제 삭제는 PostPurger 가 처리)
+     * 검증한 비밀번호 해시가 그대로인 경우에만 삭제 표시된다.
+     *
+     * @return 삭제 표시된 게시글 수, 없거나 이미 삭제되었거나 비밀번호가 바뀐 경우 0
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update Post p set p.deleted = true, p.deletedDateTime = :deletedDateTime
+            where p.id = :id and p.password = :password and p.deleted = false
+            """)
+    int softDelete(
+            @Param("id") Long id,
+            @Param("password") String password,
+            @Param("deletedDateTime") LocalDateTime deletedDateTime
+    );
+
+    /**
+     * 보존 기간이 지난 삭제 게시글 ID 조회 (idx_post_deleted_date_time 인덱스 사용)
+     * 엔티티의 삭제 게시글 제외 조건이 붙지 않도록 네이티브 쿼리로 조회한다.
+     */
+    @Query(value = """
+            select id from post
+            where deleted = true and deleted_date_time < :before
+            order by deleted_date_time
+            limit :limit
+            """, nativeQuery = true)
+    List<Long> findPurgeableIds(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    /**
+     * 삭제 표시된 게시글 실제 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "delete from post where id in (:ids) and deleted = true", nativeQuery = true)
+    int purge(@Param("ids") List<Long> ids);
+
+    /**
+     * 전체 게시글을 ID 순서로 스트리밍 조회 (트랜잭션 안에서 사용, 사용 후 close)
+     * JDBC fetch size 만큼씩 나누어 읽으므로 MySQL 은 useCursorFetch=true 설정이 필요하다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Post p order by p.id")
+    Stream<Post> streamAll();
 }
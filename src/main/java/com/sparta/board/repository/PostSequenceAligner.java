@@ -0,0 +1,41 @@
+package com.sparta.board.repository;
+
+import com.sparta.board.entity.Post;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 ID 시퀀스 보정
+ * IDENTITY 로 저장된 게시글이 있는 DB 에 ddl-auto 가 post_seq 테이블을 새로 만들면 next_val 이 1 부터 시작해
+ * 기존 게시글 ID 와 겹치므로, 요청을 받기 전에 next_val 로 할당할 ID 범위가 max(post.id) 보다 크도록 올린다.
+ * 시퀀스를 테이블로 대신하는 DB(MySQL)만 보정하며, 시퀀스를 지원하는 DB 의 post_seq 는 마이그레이션으로 관리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSequenceAligner implements SmartInitializingSingleton {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            jdbcTemplate.queryForObject("select max(next_val) from post_seq", Long.class);
+        } catch (DataAccessException e) {
+            // post_seq 테이블이 없음 (DB 시퀀스 사용)
+            return;
+        }
+
+        // pooled 최적화는 next_val 을 할당 범위의 상한으로 사용해 (next_val - allocationSize, next_val] 범위의 ID 를 할당한다.
+        // 삭제 표시된 게시글도 ID 를 차지하므로 @Where 없이 직접 조회한다.
+        long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from post", Long.class);
+        long required = maxId + Post.ID_ALLOCATION_SIZE;
+        int updated = jdbcTemplate.update("update post_seq set next_val = ? where next_val < ?", required, required);
+        if (updated > 0) {
+            log.warn("post_seq.next_val 이 기존 게시글 ID(최대 {}) 이하여서 {} 로 올렸습니다.", maxId, required);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.sparta.board.search;
+
+import com.sparta.board.entity.Post;
+import com.sparta.board.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 제목, 내용 인메모리 역색인 (term -> 게시글 ID 별 가중 빈도)
+ * 애플리케이션 시작 후 별도 스레드에서 전체 게시글을 스트리밍 조회해 만들고, 이후에는 PostService 의 작성, 수정, 삭제로 갱신한다.
+ * 검색 결과는 TF-IDF 점수가 높은 순, 점수가 같으면 최신(ID 가 큰) 순으로 정렬한다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CONTENT_WEIGHT = 1;
+    // 검색어 term 중 이 비율 이상 포함한 게시글만 결과에 포함
+    private static final double MINIMUM_MATCH_RATIO = 0.75;
+
+    private final PostRepository postRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    // 시작 시 색인 중 변경된 게시글은 이미 최신 상태로 색인되어 있으므로 건너뛴다.
+    private Set<Long> changedWhileRebuilding;
+
+    public PostSearchIndex(
+            PostRepository postRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.postRepository = postRepository;
+        this.entityManager = entityManager;
+        // 스트리밍 조회는 트랜잭션 안에서만 가능하며, 읽기 전용이면 복제 DB 에서 읽는다.
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // 전체 게시글 색인은 게시글 수에 비례해 오래 걸리므로 시작 완료(첫 요청 처리)를 막지 않도록 별도 스레드에서 만든다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        Thread rebuilder = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("게시글 검색 색인에 실패했습니다.", e);
+            }
+        }, "post-search-index-rebuild");
+        rebuilder.setDaemon(true);
+        rebuilder.start();
+    }
+
+    /**
+     * 저장된 전체 게시글로 색인을 다시 만든다.
+     * 색인하는 동안 검색은 이미 색인된 게시글만 찾으며, 그 사이 작성, 수정, 삭제된 게시글은 변경 내용으로 색인된다.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedWhileRebuilding = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long count;
+        try {
+            count = readOnlyTransaction.execute(status -> indexAll());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedWhileRebuilding = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("게시글 검색 색인 완료 ({}건)", count);
+    }
+
+    private long indexAll() {
+        long count = 0;
+        try (Stream<Post> posts = postRepository.streamAll()) {
+            Iterator<Post> iterator = posts.iterator();
+            while (iterator.hasNext()) {
+                Post post = iterator.next();
+                Map<String, Integer> terms = weightedTerms(post.getTitle(), post.getContent());
+                lock.writeLock().lock();
+                try {
+                    if (!changedWhileRebuilding.contains(post.getId())) {
+                        put(post.getId(), terms);
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                entityManager.detach(post);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public void index(Long postId, String title, String content) {
+        Map<String, Integer> terms = weightedTerms(title, content);
+        lock.writeLock().lock();
+        try {
+            markChanged(postId);
+            put(postId, terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            markChanged(postId);
+            removeDocument(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param query 검색어
+     * @param page  0부터 시작하는 페이지 번호
+     * @param size  페이지 크기
+     * @return 점수 순으로 정렬된 게시글 ID 와 전체 검색 결과 수
+     */
+    public SearchResult search(String query, int page, int size) {
+        Set<String> queryTerms = new LinkedHashSet<>(PostTokenizer.tokenize(query));
+        if (queryTerms.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+        int minimumMatch = Math.max(1, (int) Math.ceil(queryTerms.size() * MINIMUM_MATCH_RATIO));
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            Map<Long, Hit> hitsById = new HashMap<>();
+            for (String term : queryTerms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (double) documentCount / posting.size());
+                posting.forEach((postId, frequency) -> hitsById
+                        .computeIfAbsent(postId, Hit::new)
+                        .add(idf * (1 + Math.log(frequency))));
+            }
+            hitsById.values().stream()
+                    .filter(hit -> hit.matchedTerms >= minimumMatch)
+                    .forEach(hits::add);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparing(Hit::postId, Comparator.reverseOrder()));
+        // 큰 page 에서 page * size 가 int 범위를 넘지 않도록 long 으로 계산
+        int from = (int) Math.min((long) Math.max(page, 0) * size, hits.size());
+        int to = (int) Math.min((long) from + size, hits.size());
+        List<Long> postIds = hits.subList(from, to).stream().map(Hit::postId).toList();
+        return new SearchResult(postIds, hits.size());
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void markChanged(Long postId) {
+        if (changedWhileRebuilding != null) {
+            changedWhileRebuilding.add(postId);
+        }
+    }
+
+    private void put(Long postId, Map<String, Integer> terms) {
+        removeDocument(postId);
+        terms.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(postId, frequency));
+        documents.put(postId, terms);
+    }
+
+    private void removeDocument(Long postId) {
+        Map<String, Integer> terms = documents.remove(postId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(postId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static Map<String, Integer> weightedTerms(String title, String content) {
+        Map<String, Integer> terms = new HashMap<>();
+        PostTokenizer.tokenize(title).forEach(term -> terms.merge(term, TITLE_WEIGHT, Integer::sum));
+        PostTokenizer.tokenize(content).forEach(term -> terms.merge(term, CONTENT_WEIGHT, Integer::sum));
+        return terms;
+    }
+
+    public record SearchResult(List<Long> postIds, int totalCount) {
+    }
+
+    private static class Hit {
+        private final Long postId;
+        private double score;
+        private int matchedTerms;
+
+        Hit(Long postId) {
+            this.postId = postId;
+        }
+
+        void add(double termScore) {
+            score += termScore;
+            matchedTerms++;
+        }
+
+        Long postId() {
+            return postId;
+        }
+
+        double score() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.sparta.board.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색어, 게시글 제목, 내용을 검색 단어(term)로 나누는 토크나이저
+ * 형태소 분석 없이 한글, 영문 모두 처리할 수 있도록 글자/숫자 단위로 나눈 단어를 2글자씩(bigram) 잘라 사용한다.
+ * 예) "게시판 Search" -> [게시, 시판, se, ea, ar, rc, ch]
+ */
+public final class PostTokenizer {
+
+    private PostTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        int[] codePoints = Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .codePoints()
+                .toArray();
+
+        List<String> terms = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean letterOrDigit = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (letterOrDigit && wordStart < 0) {
+                wordStart = i;
+            } else if (!letterOrDigit && wordStart >= 0) {
+                addBigrams(codePoints, wordStart, i, terms);
+                wordStart = -1;
+            }
+        }
+        return terms;
+    }
+
+    // 한 글자 단어는 그대로, 두 글자 이상은 bigram 으로
+    private static void addBigrams(int[] codePoints, int start, int end, List<String> terms) {
+        if (end - start == 1) {
+            terms.add(new String(codePoints, start, 1));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            terms.add(new String(codePoints, i, 2));
+        }
+    }
+}
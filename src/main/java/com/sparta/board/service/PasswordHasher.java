@@ -0,0 +1,147 @@
+package com.sparta.board.service;
+
+import com.sparta.board.config.PasswordProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 암호화, 검증을 전용 스레드 풀에서 실행
+ * bcrypt 연산은 CPU 를 오래 사용하므로 DB 트랜잭션 밖에서 개수를 제한해 실행한다.
+ * 대기 작업이 가득 차면 RejectedExecutionException 이 발생한다.
+ * 암호화, 검증 시간(board.password.hashing)과 대기 시간(board.password.hashing.wait)을 따로 기록한다.
+ */
+@Component
+public class PasswordHasher {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordProperties properties, MeterRegistry meterRegistry) {
+        PasswordProperties.Hashing hashing = properties.hashing();
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(
+                hashing.resolvedPoolSize(),
+                hashing.resolvedPoolSize(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(hashing.queueCapacity()),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeTimer = Timer.builder("board.password.hashing")
+                .description("bcrypt 암호화, 검증 시간")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("board.password.hashing")
+                .description("bcrypt 암호화, 검증 시간")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("board.password.hashing.wait")
+                .description("비밀번호 처리 스레드 풀 대기 시간")
+                .register(meterRegistry);
+        // 스레드 풀 크기, 실행 중, 대기 작업 수 게이지
+        new ExecutorServiceMetrics(executor, "password-hashing", List.of()).bindTo(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return await(timed(encodeTimer, () -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * 여러 비밀번호를 스레드 풀에서 병렬로 암호화, 입력 순서대로 반환
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        try {
+            for (String rawPassword : rawPasswords) {
+                futures.add(executor.submit(timed(encodeTimer, () -> passwordEncoder.encode(rawPassword))));
+            }
+        } catch (RejectedExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+
+        List<String> encodedPasswords = new ArrayList<>(futures.size());
+        for (Future<String> future : futures) {
+            encodedPasswords.add(await(future));
+        }
+        return encodedPasswords;
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return await(timed(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    // 저장된 비밀번호가 현재 설정보다 낮은 작업 비용으로 암호화되어 있는지 확인 (bcrypt 연산 없음)
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 제출부터 실행 시작까지는 대기 시간, 실행 시간은 작업별 타이머에 기록
+    private <T> Callable<T> timed(Timer timer, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            try {
+                return task.call();
+            } finally {
+                timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    private <T> T await(Callable<T> task) {
+        return await(executor.submit(task));
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.sparta.board.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sparta.board.dto.response.PostResponse;
+import com.sparta.board.entity.Post;
+import com.sparta.board.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 게시글 NDJSON(줄 단위 JSON) 내보내기
+ * 게시글을 한 건씩 읽어 바로 출력 스트림에 쓰고 영속성 컨텍스트에서 분리해
+ * 게시글 수와 관계없이 일정한 메모리만 사용한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PostExportService {
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final PostRepository postRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long exportPosts(OutputStream outputStream) throws IOException {
+        // ObjectMapper 는 값마다 flush 하므로(FLUSH_AFTER_WRITE_VALUE) 끄고 FLUSH_INTERVAL 마다 직접 flush
+        ObjectWriter writer = objectMapper.writerFor(PostResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (Stream<Post> posts = postRepository.streamAll();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // 응답 스트림은 서블릿 컨테이너가 닫는다.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 값 사이 기본 구분자(공백) 없이 값마다 줄바꿈만 출력해 두 번째 줄부터 공백으로 시작하지 않도록 한다.
+            generator.setRootValueSeparator(null);
+
+            Iterator<Post> iterator = posts.iterator();
+            while (iterator.hasNext()) {
+                Post post = iterator.next();
+                // PostResponse 와 같은 필드, 날짜 형식으로 직렬화
+                writer.writeValue(generator, PostResponse.from(post));
+                generator.writeRaw('\n');
+                entityManager.detach(post);
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        log.debug("게시글 {}건 내보내기 완료", count);
+        return count;
+    }
+}
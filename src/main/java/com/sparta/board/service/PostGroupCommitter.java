@@ -0,0 +1,189 @@
+package com.sparta.board.service;
+
+import com.sparta.board.config.PostGroupCommitProperties;
+import com.sparta.board.dto.request.PostRequest;
+import com.sparta.board.entity.Post;
+import com.sparta.board.repository.PostRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 게시글 작성 그룹 커밋
+ * 동시에 들어온 작성 요청을 대기열에 모아 최대 maxBatchSize 개 또는 maxDelay 마다 한 트랜잭션으로 저장한다.
+ * 요청한 스레드는 자신의 게시글이 커밋될 때까지 최대 maxWait 동안 기다리며, 묶음 저장이 실패하면 게시글마다 따로 저장해
+ * 실패한 요청만 예외를 받는다.
+ */
+@Slf4j
+@Component
+public class PostGroupCommitter {
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PostGroupCommitProperties properties;
+    private final BlockingQueue<PendingPost> queue;
+    private final DistributionSummary batchSizeSummary;
+    private final Thread flusher;
+
+    private volatile boolean running;
+
+    public PostGroupCommitter(
+            PostRepository postRepository,
+            TransactionTemplate transactionTemplate,
+            PostGroupCommitProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.batchSizeSummary = DistributionSummary.builder("board.post.group-commit.batch-size")
+                .description("그룹 커밋 한 번에 저장한 게시글 수")
+                .register(meterRegistry);
+
+        this.flusher = new Thread(this::run, "post-group-commit");
+        this.flusher.setDaemon(true);
+        if (properties.enabled()) {
+            running = true;
+            flusher.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 게시글을 다음 묶음에 넣고 커밋될 때까지 대기
+     * maxWait 안에 커밋되지 않으면 RejectedExecutionException(503)을 던진다. 아직 대기열에 있던 게시글은 저장되지 않지만,
+     * 이미 저장 중이던 게시글은 응답 이후 커밋될 수 있다.
+     *
+     * @param request         유효성 검증을 통과한 게시글
+     * @param encodedPassword 암호화된 비밀번호
+     * @return 커밋된 게시글 (ID, 작성일 포함)
+     */
+    public Post save(PostRequest request, String encodedPassword) {
+        PendingPost pending = new PendingPost(request, encodedPassword, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            throw new RejectedExecutionException("게시글 저장 대기열이 가득 찼습니다.");
+        }
+        // 종료 중 대기열에 넣었으면 종료 처리가 대기열을 비우기 전후와 관계없이 완료되지 않은 채 남지 않도록 직접 꺼낸다.
+        if (!running && queue.remove(pending)) {
+            throw new RejectedExecutionException("게시글 저장이 중단되었습니다.");
+        }
+
+        try {
+            return pending.result().get(properties.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            queue.remove(pending);
+            throw new RejectedExecutionException("게시글 저장이 지연되고 있습니다.", e);
+        } catch (InterruptedException e) {
+            queue.remove(pending);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("게시글 저장 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        // 대기열에 남은 게시글을 저장할 때까지 대기
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+
+        // 저장 스레드가 끝난 뒤 들어왔거나 제시간에 저장하지 못한 게시글은 실패로 완료
+        List<PendingPost> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.result().completeExceptionally(
+                new RejectedExecutionException("게시글 저장이 중단되었습니다.")));
+    }
+
+    private void run() {
+        int maxBatchSize = properties.maxBatchSize();
+        long maxDelayNanos = properties.maxDelay().toNanos();
+        List<PendingPost> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingPost first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingPost next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pending -> pending.result().completeExceptionally(
+                        new RejectedExecutionException("게시글 저장이 중단되었습니다.")));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void flush(List<PendingPost> batch) {
+        batchSizeSummary.record(batch.size());
+        try {
+            List<Post> saved = transactionTemplate.execute(status -> postRepository.saveAll(
+                    batch.stream().map(PendingPost::toEntity).toList()
+            ));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(saved.get(i));
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            // 원인이 된 게시글만 실패하도록 새 엔티티로 하나씩 다시 저장
+            log.warn("게시글 {}건 묶음 저장 실패, 개별 저장으로 재시도", batch.size(), e);
+            for (PendingPost pending : batch) {
+                try {
+                    Post post = transactionTemplate.execute(status -> postRepository.save(pending.toEntity()));
+                    pending.result().complete(post);
+                } catch (RuntimeException saveException) {
+                    pending.result().completeExceptionally(saveException);
+                }
+            }
+        }
+    }
+
+    record PendingPost(PostRequest request, String encodedPassword, CompletableFuture<Post> result) {
+        Post toEntity() {
+            return request.toEntity(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.sparta.board.service;
+
+import com.sparta.board.config.PostPurgeProperties;
+import com.sparta.board.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 삭제 표시된 게시글 정리
+ * 보존 기간이 지난 게시글을 batchSize 개씩 짧은 트랜잭션으로 삭제하고, 트랜잭션 사이에 쉬어
+ * 한 번에 많은 행을 지우며 생기는 긴 잠금 대기와 복제 지연을 막는다.
+ */
+@Slf4j
+@Component
+public class PostPurger {
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PostPurgeProperties properties;
+    private final Counter purgedCounter;
+
+    private final ScheduledExecutorService purgeExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PostPurger(
+            PostRepository postRepository,
+            TransactionTemplate transactionTemplate,
+            PostPurgeProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.purgedCounter = Counter.builder("board.post.purged")
+                .description("실제로 삭제한 삭제 표시 게시글 수")
+                .register(meterRegistry);
+
+        if (properties.enabled()) {
+            long interval = properties.interval().toMillis();
+            purgeExecutor.scheduleWithFixedDelay(this::purgeQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 삭제 게시글을 최대 batchSize * maxBatchesPerRun 개 삭제
+     *
+     * @return 삭제한 게시글 수
+     */
+    public int purge() throws InterruptedException {
+        LocalDateTime before = LocalDateTime.now().minus(properties.retention());
+        int purged = 0;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            List<Long> postIds = postRepository.findPurgeableIds(before, properties.batchSize());
+            if (postIds.isEmpty()) {
+                break;
+            }
+
+            Integer deleted = transactionTemplate.execute(status -> postRepository.purge(postIds));
+            purged += deleted;
+            purgedCounter.increment(deleted);
+            if (postIds.size() < properties.batchSize()) {
+                break;
+            }
+            Thread.sleep(properties.batchPause().toMillis());
+        }
+        return purged;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        purgeExecutor.shutdownNow();
+    }
+
+    private void purgeQuietly() {
+        try {
+            int purged = purge();
+            if (purged > 0) {
+                log.debug("삭제 게시글 {}건 정리", purged);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("삭제 게시글 정리 실패, 다음 주기에 다시 정리", e);
+        }
+    }
+}
@@ -1,70 +1,298 @@
 package com.sparta.board.service;
 
+import com.sparta.board.cache.PostBody;
+import com.sparta.board.cache.PostBodyCache;
+import com.sparta.board.cache.PostListSnapshot;
+import com.sparta.board.cache.VerifiedPasswordCache;
+import com.sparta.board.config.PostListProperties;
+import com.sparta.board.dto.request.PostCursor;
 import com.sparta.board.dto.request.PostRequest;
+import com.sparta.board.dto.response.PostPageResponse;
+import com.sparta.board.dto.response.PostSearchResponse;
 import com.sparta.board.dto.response.PostResponse;
+import com.sparta.board.dto.response.PostSummaryResponse;
 import com.sparta.board.entity.Post;
 import com.sparta.board.exception.InvalidPasswordException;
+import com.sparta.board.feed.PostEvent;
+import com.sparta.board.feed.PostFeed;
 import com.sparta.board.repository.PostRepository;
+import com.sparta.board.search.PostSearchIndex;
+import com.sparta.board.trending.PostTrending;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class PostService {
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PostListProperties postListProperties;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final PostBodyCache postBodyCache;
+    private final PostListSnapshot postListSnapshot;
+    private final VerifiedPasswordCache verifiedPasswordCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostViewCounter postViewCounter;
+    private final PostGroupCommitter postGroupCommitter;
+    private final PostFeed postFeed;
+    private final PostTrending postTrending;
 
-    @Transactional
+    // bcrypt 연산은 트랜잭션 밖에서 처리해 커넥션 점유 시간을 줄인다.
+    // 그룹 커밋을 사용하면 동시에 들어온 작성 요청과 함께 한 트랜잭션으로 저장된다.
     public PostResponse createPost(PostRequest request) {
-        Post post = postRepository.save(request.toEntity(passwordEncoder));
-        return PostResponse.from(post);
+        String encodedPassword = passwordHasher.encode(request.password());
+
+        if (postGroupCommitter.isEnabled()) {
+            return created(postGroupCommitter.save(request, encodedPassword));
+        }
+        return transactionTemplate.execute(status -> created(postRepository.save(request.toEntity(encodedPassword))));
+    }
+
+    /**
+     * 게시글 일괄 작성
+     * 비밀번호는 병렬로 암호화하고, 미리 할당된 ID 로 한 트랜잭션에서 JDBC 배치 INSERT 한다.
+     *
+     * @param requests 유효성 검증을 통과한 게시글 목록
+     * @return 요청 순서와 같은 순서의 작성된 게시글 목록
+     */
+    public List<PostResponse> createPosts(List<PostRequest> requests) {
+        List<String> encodedPasswords = passwordHasher.encodeAll(
+                requests.stream().map(PostRequest::password).toList()
+        );
+
+        return transactionTemplate.execute(status -> {
+            List<Post> posts = new ArrayList<>(requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                posts.add(requests.get(i).toEntity(encodedPasswords.get(i)));
+            }
+            List<Post> saved = postRepository.saveAll(posts);
+
+            List<PostSummaryResponse> summaries = saved.stream()
+                    .map(post -> PostSummaryResponse.from(post, postListProperties.excerptLength()))
+                    .toList();
+            List<PostResponse> responses = saved.stream().map(PostResponse::from).toList();
+            afterCommit(() -> {
+                summaries.forEach(postListSnapshot::onCreated);
+                summaries.forEach(summary -> postFeed.publish(PostEvent.Type.CREATED, summary.id(), summary));
+                responses.forEach(post -> postSearchIndex.index(post.id(), post.title(), post.content()));
+            });
+            return responses;
+        });
+    }
+
+    // 스냅샷 적중 시 커넥션을 점유하지 않도록 트랜잭션은 조회 시점의 repository 에 위임
+    public PostPageResponse getPosts(String cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        if (!StringUtils.hasText(cursor)) {
+            PostPageResponse firstPage = postListSnapshot.getFirstPage(pageSize);
+            if (firstPage != null) {
+                return firstPage;
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        int excerptLength = postListProperties.excerptLength();
+        List<PostSummaryResponse> posts;
+        if (StringUtils.hasText(cursor)) {
+            PostCursor postCursor = PostCursor.decode(cursor);
+            posts = postRepository.findNextPage(
+                    postCursor.createdDateTime(), postCursor.id(), excerptLength, pageRequest);
+        } else {
+            posts = postRepository.findFirstPage(excerptLength, pageRequest);
+        }
+
+        List<PostSummaryResponse> content = posts.size() > pageSize ? posts.subList(0, pageSize) : posts;
+        String nextCursor = posts.size() > pageSize
+                ? PostCursor.from(content.get(content.size() - 1)).encode()
+                : null;
+
+        return PostPageResponse.of(content, nextCursor);
     }
 
-    @Transactional(readOnly = true)
-    public List<PostResponse> getPosts() {
-        return postRepository.findAll(Sort.by(Sort.Direction.DESC, "createdDateTime")).stream()
+    /**
+     * 게시글 제목, 내용 검색
+     * 검색 색인에서 점수 순 ID 를 구한 뒤 해당 페이지의 게시글만 조회한다.
+     *
+     * @param query 검색어
+     * @param page  0부터 시작하는 페이지 번호
+     * @param size  페이지 크기
+     */
+    public PostSearchResponse searchPosts(String query, int page, int size) {
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PostSearchIndex.SearchResult result = postSearchIndex.search(query, pageNumber, pageSize);
+        if (result.postIds().isEmpty()) {
+            return PostSearchResponse.of(List.of(), result.totalCount(), pageNumber, pageSize);
+        }
+
+        // 색인 이후 삭제된 게시글은 결과에서 제외
+        Map<Long, Post> postsById = postRepository.findAllById(result.postIds()).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<PostResponse> posts = result.postIds().stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
                 .map(PostResponse::from)
                 .toList();
+        return PostSearchResponse.of(posts, result.totalCount(), pageNumber, pageSize);
     }
-    @Transactional(readOnly = true)
-    public PostResponse getPost(Long id) {
-        return PostResponse.from(
-                postRepository.findById(id)
-                        .orElseThrow(() -> new NoSuchElementException("조회할 게시글이 없습니다."))
+
+    /**
+     * 직렬화를 마친 게시글 응답 본문 (JSON, gzip)과 조건부 조회(ETag, Last-Modified)용 수정 시각
+     * 캐시 적중 시 커넥션을 점유하지 않도록 트랜잭션은 조회 시점의 repository 에 위임하며, 캐시에 없을 때만 DB 에서 조회한다.
+     * 캐시된 본문의 조회수는 조회수를 DB 에 반영할 때 갱신된다.
+     * 304 응답은 조회수에 포함하지 않도록 조회수는 증가시키지 않는다. (recordView)
+     */
+    public PostBody getPostBody(Long id) {
+        return postBodyCache.getOrLoad(
+                id, () -> postViewCounter.load(id, () -> findPost(id)), postViewCounter::flushedViews
         );
     }
 
-    @Transactional
+    // 본문을 응답한 조회만 조회수와 최근 조회 빈도에 반영, 조회수는 메모리 카운터에만 증가시킨다.
+    public void recordView(Long id) {
+        postViewCounter.increment(id);
+        postTrending.record(id);
+    }
+
+    /**
+     * 최근 조회가 많은 게시글
+     * 조회 빈도 순위와 응답은 주기적으로 미리 만들어 두며, 조회수는 순위를 갱신한 시점의 조회수이다.
+     *
+     * @param limit 최대 게시글 수, 설정한 순위 크기(board.post.trending.size)를 넘을 수 없다.
+     */
+    public List<PostResponse> getTrendingPosts(int limit) {
+        return postTrending.top(limit);
+    }
+
     public PostResponse updatePost(Long postId, PostRequest request) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new NoSuchElementException("수정할 게시글이 없습니다."));
+        String encodedPassword = findPassword(postId, "수정할 게시글이 없습니다.");
+        verifyPassword(postId, request.password(), encodedPassword);
+        // 이전 작업 비용으로 저장된 비밀번호는 검증에 성공한 평문으로 다시 암호화
+        String newPassword = passwordHasher.upgradeEncoding(encodedPassword)
+                ? passwordHasher.encode(request.password())
+                : encodedPassword;
 
-        if (!passwordEncoder.matches(request.password(), post.getPassword())) {
-            throw new InvalidPasswordException();
-        }
+        // 엔티티를 읽지 않고 검증한 비밀번호 조건으로 UPDATE 한 번에 수정
+        return transactionTemplate.execute(status -> {
+            int updatedRows = postRepository.updatePost(
+                    postId, encodedPassword, newPassword,
+                    request.name(), request.title(), request.content(), LocalDateTime.now()
+            );
+            if (updatedRows == 0) {
+                throw notChanged(postId, "수정할 게시글이 없습니다.");
+            }
+            // 조회와 같이 아직 DB 에 반영하지 않은 조회수를 더해 응답
+            PostResponse saved = postRepository.findResponseById(postId)
+                    .orElseThrow(() -> new NoSuchElementException("수정할 게시글이 없습니다."));
+            PostResponse post = saved.withViews(saved.views() + postViewCounter.pending(postId));
+            PostSummaryResponse summary = PostSummaryResponse.from(post, postListProperties.excerptLength());
+            afterCommit(() -> {
+                postBodyCache.evict(postId);
+                postListSnapshot.onUpdated(summary);
+                postFeed.publish(PostEvent.Type.UPDATED, postId, summary);
+                postSearchIndex.index(postId, request.title(), request.content());
+            });
+
+            return post;
+        });
+    }
+
+    public void deletePost(Long postId, String password) {
+        String encodedPassword = findPassword(postId, "삭제할 게시글이 없습니다.");
+        verifyPassword(postId, password, encodedPassword);
 
-        post.updatePost(request);
+        // 검증한 비밀번호 조건으로 삭제 표시만 하고 실제 삭제는 PostPurger 가 나누어 처리
+        transactionTemplate.executeWithoutResult(status -> {
+            if (postRepository.softDelete(postId, encodedPassword, LocalDateTime.now()) == 0) {
+                throw notChanged(postId, "삭제할 게시글이 없습니다.");
+            }
+            afterCommit(() -> {
+                verifiedPasswordCache.evict(postId);
+                postBodyCache.evict(postId);
+                postListSnapshot.onDeleted(postId);
+                postSearchIndex.remove(postId);
+                postViewCounter.remove(postId);
+                postTrending.remove(postId);
+                postFeed.publish(PostEvent.Type.DELETED, postId, null);
+            });
+        });
+    }
 
+    private PostResponse created(Post post) {
+        PostSummaryResponse summary = PostSummaryResponse.from(post, postListProperties.excerptLength());
+        afterCommit(() -> {
+            postListSnapshot.onCreated(summary);
+            postFeed.publish(PostEvent.Type.CREATED, post.getId(), summary);
+            postSearchIndex.index(post.getId(), post.getTitle(), post.getContent());
+        });
         return PostResponse.from(post);
     }
 
-    @Transactional
-    public void deletePost(Long postId, String password) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new NoSuchElementException("삭제할 게시글이 없습니다."));
+    private PostResponse findPost(Long id) {
+        return PostResponse.from(
+                postRepository.findById(id)
+                        .orElseThrow(() -> new NoSuchElementException("조회할 게시글이 없습니다."))
+        );
+    }
+
+    // 비밀번호 검증에 필요한 비밀번호 해시만 조회
+    private String findPassword(Long postId, String notFoundMessage) {
+        return postRepository.findPasswordById(postId)
+                .orElseThrow(() -> new NoSuchElementException(notFoundMessage));
+    }
 
-        if (!passwordEncoder.matches(password, post.getPassword())) {
+    // 커넥션을 점유하지 않은 상태에서 전용 스레드 풀로 검증, 최근 검증에 성공한 비밀번호는 bcrypt 연산 생략
+    private void verifyPassword(Long postId, String rawPassword, String encodedPassword) {
+        if (verifiedPasswordCache.isVerified(postId, encodedPassword, rawPassword)) {
+            return;
+        }
+        if (!passwordHasher.matches(rawPassword, encodedPassword)) {
             throw new InvalidPasswordException();
         }
-        postRepository.delete(post);
+        verifiedPasswordCache.markVerified(postId, encodedPassword, rawPassword);
+    }
+
+    // 수정, 삭제된 행이 없으면 게시글이 삭제되었거나, 검증 이후 비밀번호가 바뀌어 검증 결과를 사용할 수 없는 경우
+    private RuntimeException notChanged(Long postId, String notFoundMessage) {
+        return postRepository.findPasswordById(postId).isPresent()
+                ? new InvalidPasswordException()
+                : new NoSuchElementException(notFoundMessage);
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 실행, 트랜잭션이 없으면 즉시 실행
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
 }
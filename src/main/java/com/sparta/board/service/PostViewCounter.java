@@ -0,0 +1,270 @@
+package com.sparta.board.service;
+
+import com.sparta.board.cache.PostBodyCache;
+import com.sparta.board.cache.PostSnapshot;
+import com.sparta.board.dto.response.PostResponse;
+import com.sparta.board.config.PostViewProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 조회수 카운터
+ * 조회 시에는 게시글별 LongAdder 만 증가시키고(행 잠금 없음),
+ * 주기적으로 모인 조회수를 한 번의 JDBC 배치 UPDATE 로 DB 에 반영한다.
+ * 캐시된 게시글은 무효화하지 않고, 캐시할 때 기록한 기준점(반영한 조회수) 이후 카운터가 모은 조회수를 더해 응답한다.
+ * 기준점이 유지되도록 캐시된 게시글의 카운터는 제거하지 않는다.
+ * 캐시할 게시글 조회와 조회수 반영은 서로 잠그지 않고, 조회 중 같은 게시글의 조회수가 반영되면 다시 조회한다.
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+    private static final String FLUSH_SQL = "update post set views = views + ? where id = ?";
+    // 반영 중인 게시글을 조회할 때 반영이 끝났는지 다시 확인하는 간격
+    private static final long FLUSH_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostBodyCache postBodyCache;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-view-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PostViewCounter(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PostBodyCache postBodyCache,
+            PostViewProperties properties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.postBodyCache = postBodyCache;
+
+        long interval = properties.flushInterval().toMillis();
+        flushExecutor.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    // 제거 중인 카운터에 증가시켰으면 증가를 되돌리고, 제거가 끝나면 새 카운터에 다시 증가
+    public void increment(Long postId) {
+        while (true) {
+            Counter counter = counters.get(postId);
+            if (counter == null) {
+                counter = counters.computeIfAbsent(postId, key -> new Counter());
+            }
+            if (counter.increment()) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 캐시할 게시글 조회, 조회 시점까지 DB 에 반영한 조회수를 기준점으로 함께 기록한다.
+     * 조회 전후로 같은 게시글의 반영 번호(Counter.flushSeq)가 바뀌었거나 카운터가 제거되었으면
+     * 조회한 조회수에 반영분이 포함되었는지 알 수 없으므로, 반영이 끝난 뒤 다시 조회한다.
+     * 다시 조회할 때 반영 UPDATE 의 커밋 결과를 읽을 수 있도록 트랜잭션 안에서 호출하지 않는다.
+     */
+    public PostSnapshot load(Long postId, Supplier<PostResponse> loader) {
+        while (true) {
+            Counter counter = counters.get(postId);
+            long flushSeq = counter == null ? 0 : counter.flushSeq;
+            if (Counter.isFlushing(flushSeq)) {
+                awaitFlush(counter);
+                continue;
+            }
+            long baseline = counter == null ? 0 : counter.flushed;
+
+            PostResponse post = loader.get();
+
+            if (isUnchanged(counter, flushSeq, counters.get(postId))) {
+                return new PostSnapshot(post, baseline);
+            }
+        }
+    }
+
+    /**
+     * 캐시된 게시글의 현재 조회수 (아직 DB 에 반영되지 않은 조회수 포함)
+     */
+    public long views(PostSnapshot snapshot) {
+        Counter counter = counters.get(snapshot.id());
+        long counted = counter == null ? 0 : counter.views.sum();
+        return snapshot.post().views() + counted - snapshot.viewBaseline();
+    }
+
+    /**
+     * 캐시된 게시글의 DB 에 반영된 조회수
+     */
+    public long flushedViews(PostSnapshot snapshot) {
+        Counter counter = counters.get(snapshot.id());
+        long flushed = counter == null ? 0 : counter.flushed;
+        return snapshot.post().views() + flushed - snapshot.viewBaseline();
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     */
+    public long pending(Long postId) {
+        Counter counter = counters.get(postId);
+        return counter == null ? 0 : counter.pending();
+    }
+
+    public void remove(Long postId) {
+        counters.remove(postId);
+    }
+
+    /**
+     * 모인 조회수를 DB 에 반영
+     * 실패하면 반영하지 못한 조회수는 다음 주기에 다시 반영한다.
+     *
+     * @return 조회수가 반영된 게시글 수
+     */
+    public synchronized int flush() {
+        List<Long> postIds = new ArrayList<>();
+        List<Counter> flushing = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        List<Long> idlePostIds = new ArrayList<>();
+        counters.forEach((postId, counter) -> {
+            long delta = counter.pending();
+            if (delta > 0) {
+                postIds.add(postId);
+                flushing.add(counter);
+                deltas.add(delta);
+            } else {
+                idlePostIds.add(postId);
+            }
+        });
+
+        // 한 주기 동안 조회가 없고 캐시되지 않은 게시글은 카운터 제거
+        for (Long postId : idlePostIds) {
+            counters.computeIfPresent(postId, (key, counter) ->
+                    !isCached(key) && counter.retire() ? null : counter);
+        }
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(postIds.size());
+        for (int i = 0; i < postIds.size(); i++) {
+            batchArgs.add(new Object[]{deltas.get(i), postIds.get(i)});
+        }
+        // 반영 중 표시는 반영한 조회수를 기준점에 더한 이후에 해제 (실패해도 해제)
+        flushing.forEach(Counter::beginFlush);
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+
+            for (int i = 0; i < flushing.size(); i++) {
+                flushing.get(i).flushed += deltas.get(i);
+            }
+        } finally {
+            flushing.forEach(Counter::endFlush);
+        }
+        return postIds.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdownNow();
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (DataAccessException e) {
+            log.warn("게시글 조회수 반영 실패, 다음 주기에 다시 반영", e);
+        } catch (RuntimeException e) {
+            log.error("게시글 조회수 반영 실패", e);
+        }
+    }
+
+    // 반영 중인 게시글은 반영이 끝난 뒤 조회 (반영하지 않는 게시글의 조회는 기다리지 않는다.)
+    private static void awaitFlush(Counter counter) {
+        while (Counter.isFlushing(counter.flushSeq)) {
+            LockSupport.parkNanos(FLUSH_WAIT_NANOS);
+        }
+    }
+
+    // 조회 전후 같은 카운터에 반영이 없었거나, 조회 중 새로 만든 카운터가 아직 반영되지 않았는지 여부
+    private static boolean isUnchanged(Counter before, long flushSeq, Counter after) {
+        if (before == null) {
+            return after == null || after.flushSeq == 0;
+        }
+        return before == after && after.flushSeq == flushSeq;
+    }
+
+    // 캐시된 게시글의 기준점은 카운터를 기준으로 하므로 캐시에 있는 동안 카운터를 유지
+    private boolean isCached(Long postId) {
+        return postBodyCache.contains(postId);
+    }
+
+    private static final class Counter {
+        private final LongAdder views = new LongAdder();
+        // flush 스레드에서만 변경
+        private volatile long flushed;
+        // 반영 번호, 반영 중이면 홀수 (flush 스레드에서만 변경)
+        private volatile long flushSeq;
+        private volatile boolean retired;
+
+        long pending() {
+            return views.sum() - flushed;
+        }
+
+        static boolean isFlushing(long flushSeq) {
+            return (flushSeq & 1) != 0;
+        }
+
+        void beginFlush() {
+            flushSeq++;
+        }
+
+        void endFlush() {
+            flushSeq++;
+        }
+
+        /**
+         * 조회수 증가, 제거 중이거나 제거된 카운터이면 증가를 되돌리고 false 반환
+         * 증가 후 제거 표시를 확인하고 retire 는 표시 후 조회수를 확인하므로,
+         * 제거 표시를 보지 못한 증가는 retire 의 조회수 확인에 반드시 포함되어 카운터가 제거되지 않는다.
+         */
+        boolean increment() {
+            views.increment();
+            if (!retired) {
+                return true;
+            }
+            views.decrement();
+            return false;
+        }
+
+        /**
+         * 반영하지 않은 조회수가 없으면 제거 표시 (flush 스레드에서 counters.compute 안에서 호출)
+         *
+         * @return 제거 가능 여부, 표시 후 증가가 확인되면 표시를 되돌리고 false
+         */
+        boolean retire() {
+            retired = true;
+            if (views.sum() == flushed) {
+                return true;
+            }
+            retired = false;
+            return false;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.sparta.board.startup;
+
+import com.sparta.board.config.StartupReportProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 시작 단계별 소요 시간 보고
+ * 시작을 마치면 JVM 시작부터 걸린 시간과, BufferingApplicationStartup 에 기록된 시작 단계 중 가장 오래 걸린 단계를 로그로 남긴다.
+ * 단계 시간은 하위 단계 시간을 뺀 자체 시간 순으로 정렬해, 빈 생성처럼 중첩된 단계에서도 실제로 느린 단계를 찾을 수 있다.
+ * 전체 기록은 /actuator/startup 으로 조회할 수 있다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class StartupReport {
+    private final StartupReportProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        if (!properties.enabled()) {
+            return;
+        }
+        log.info("애플리케이션 시작 완료 (JVM 시작부터 {}ms, SpringApplication 실행부터 {}ms)",
+                ManagementFactory.getRuntimeMXBean().getUptime(), event.getTimeTaken().toMillis());
+
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        List<StepTime> steps = slowestSteps(startup.getBufferedTimeline(), properties.steps());
+        StringJoiner report = new StringJoiner(System.lineSeparator());
+        steps.forEach(step -> report.add(String.format("%6dms (전체 %6dms) %s%s",
+                step.self().toMillis(), step.total().toMillis(), step.name(), step.tags())));
+        log.info("가장 오래 걸린 시작 단계 {}개{}{}", steps.size(), System.lineSeparator(), report);
+    }
+
+    /**
+     * 자체 시간(하위 단계 시간 제외)이 긴 순서로 시작 단계 최대 limit 개
+     */
+    static List<StepTime> slowestSteps(StartupTimeline timeline, int limit) {
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+        Map<Long, Duration> childDurations = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                childDurations.merge(parentId, event.getDuration(), Duration::plus);
+            }
+        }
+
+        return events.stream()
+                .map(event -> {
+                    StartupStep step = event.getStartupStep();
+                    Duration self = event.getDuration().minus(childDurations.getOrDefault(step.getId(), Duration.ZERO));
+                    return new StepTime(step.getName(), tags(step), event.getDuration(), self.isNegative() ? Duration.ZERO : self);
+                })
+                .sorted(Comparator.comparing(StepTime::self).reversed())
+                .limit(Math.max(limit, 0))
+                .toList();
+    }
+
+    private static String tags(StartupStep step) {
+        StringJoiner tags = new StringJoiner(", ", " [", "]").setEmptyValue("");
+        step.getTags().forEach(tag -> tags.add(tag.getKey() + "=" + tag.getValue()));
+        return tags.toString();
+    }
+
+    /**
+     * @param self  하위 단계 시간을 뺀 자체 시간
+     * @param total 하위 단계를 포함한 전체 시간
+     */
+    record StepTime(String name, String tags, Duration total, Duration self) {
+    }
+}
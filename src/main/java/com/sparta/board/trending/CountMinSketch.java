@@ -0,0 +1,63 @@
+package com.sparta.board.trending;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 락 없는 Count-Min 스케치 (키별 빈도 추정)
+ * depth 개의 행마다 서로 다른 해시로 카운터 하나씩 증가시키고, 추정치는 행별 카운터의 최솟값이다.
+ * 추정치는 실제 빈도보다 작지 않으며, 메모리는 키 수와 관계없이 width * depth 개의 카운터로 고정된다.
+ */
+final class CountMinSketch {
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x27D4EB2F165667C5L, 0x94D049BB133111EBL
+    };
+
+    private final int depth;
+    private final int widthBits;
+    private final AtomicLongArray counters;
+
+    CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("스케치 크기가 올바르지 않습니다. (width > 0, 0 < depth <= " + SEEDS.length + ")");
+        }
+        this.depth = depth;
+        this.widthBits = 32 - Integer.numberOfLeadingZeros(Math.max(1, width - 1));
+        this.counters = new AtomicLongArray(depth << widthBits);
+    }
+
+    /**
+     * 빈도 1 증가
+     *
+     * @return 증가 이후 추정 빈도
+     */
+    long increment(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, key)));
+        }
+        return estimate;
+    }
+
+    long estimate(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, key)));
+        }
+        return estimate;
+    }
+
+    // 모든 빈도를 절반으로 줄인다. (시간 감쇠)
+    void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >>> 1);
+        }
+    }
+
+    private int index(int row, long key) {
+        long hash = (key ^ SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 31)) * 0x94D049BB133111EBL;
+        hash ^= hash >>> 29;
+        return (row << widthBits) | (int) (hash >>> (64 - widthBits));
+    }
+}
@@ -0,0 +1,201 @@
+package com.sparta.board.trending;
+
+import com.sparta.board.cache.PostBodyCache;
+import com.sparta.board.cache.PostSnapshot;
+import com.sparta.board.config.PostTrendingProperties;
+import com.sparta.board.dto.response.PostResponse;
+import com.sparta.board.entity.Post;
+import com.sparta.board.repository.PostRepository;
+import com.sparta.board.service.PostViewCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 게시글 (최근 조회 빈도 순위)
+ * 조회마다 Count-Min 스케치의 빈도만 락 없이 증가시키고, 추정 빈도가 후보 기준 이상인 게시글만 후보로 추적한다.
+ * 전용 스레드가 refreshInterval 마다 후보를 빈도 순으로 정렬해 상위 size 개의 응답 목록을 만들어 두므로,
+ * 조회는 만들어 둔 목록을 그대로 반환한다. 빈도는 halfLife 마다 절반으로 줄여 최근 조회 순위가 되도록 한다.
+ * 메모리는 게시글 수, 조회 수와 관계없이 스케치, 후보 maxCandidates 개, 응답 size 개로 고정된다.
+ */
+@Slf4j
+@Component
+public class PostTrending {
+    private final PostRepository postRepository;
+    private final PostBodyCache postBodyCache;
+    private final PostViewCounter postViewCounter;
+    private final PostTrendingProperties properties;
+    private final CountMinSketch sketch;
+
+    private final Set<Long> candidates = ConcurrentHashMap.newKeySet();
+    // 후보 목록이 정리된 이후 새 후보가 되기 위한 최소 추정 빈도
+    private volatile long threshold;
+    // 빈도 순 상위 게시글 응답 목록 (불변)
+    private volatile List<PostResponse> top = List.of();
+
+    private final ScheduledExecutorService trendingExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-trending");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PostTrending(
+            PostRepository postRepository,
+            PostBodyCache postBodyCache,
+            PostViewCounter postViewCounter,
+            PostTrendingProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        if (properties.maxCandidates() < properties.size()) {
+            throw new IllegalArgumentException("board.post.trending.max-candidates 는 size 이상이어야 합니다.");
+        }
+        this.postRepository = postRepository;
+        this.postBodyCache = postBodyCache;
+        this.postViewCounter = postViewCounter;
+        this.properties = properties;
+        this.sketch = new CountMinSketch(properties.sketchWidth(), properties.sketchDepth());
+        meterRegistry.gaugeCollectionSize("board.post.trending.candidates", Tags.empty(), candidates);
+
+        long refresh = properties.refreshInterval().toMillis();
+        trendingExecutor.scheduleWithFixedDelay(this::refreshQuietly, refresh, refresh, TimeUnit.MILLISECONDS);
+        long halfLife = properties.halfLife().toMillis();
+        trendingExecutor.scheduleAtFixedRate(this::decay, halfLife, halfLife, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 게시글 조회 기록 (조회에 성공한 이후 호출)
+     * 후보가 가득 차 있으면 다음 정리 때까지 새 후보를 추가하지 않는다.
+     */
+    public void record(Long postId) {
+        long estimate = sketch.increment(postId);
+        if (estimate >= threshold && candidates.size() < properties.maxCandidates()) {
+            candidates.add(postId);
+        }
+    }
+
+    /**
+     * 조회 빈도 상위 게시글, 최대 size 개
+     * 순위와 응답(조회수 포함)은 refreshInterval 마다 갱신된다.
+     */
+    public List<PostResponse> top(int limit) {
+        List<PostResponse> posts = top;
+        return posts.subList(0, Math.min(Math.max(limit, 0), posts.size()));
+    }
+
+    /**
+     * 삭제된 게시글을 후보와 응답 목록에서 제외 (커밋 이후 호출)
+     */
+    public synchronized void remove(Long postId) {
+        candidates.remove(postId);
+        top = top.stream().filter(post -> !post.id().equals(postId)).toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        trendingExecutor.shutdownNow();
+    }
+
+    /**
+     * 후보를 추정 빈도 순으로 정렬해 응답 목록을 갱신하고, 하위 후보를 정리해 새 후보가 들어올 자리를 만든다.
+     * 응답 목록은 삭제되지 않은 상위 후보이므로 정리 이후에도 후보로 남는다.
+     */
+    void refresh() {
+        Map<Long, Long> estimates = new HashMap<>();
+        for (Long postId : candidates) {
+            long estimate = sketch.estimate(postId);
+            if (estimate == 0) {
+                // 감쇠로 빈도가 사라진 후보
+                candidates.remove(postId);
+            } else {
+                estimates.put(postId, estimate);
+            }
+        }
+        List<Long> ranked = estimates.keySet().stream()
+                .sorted(Comparator.comparing(estimates::get, Comparator.reverseOrder())
+                        .thenComparing(Comparator.reverseOrder()))
+                .toList();
+
+        List<PostResponse> posts = load(ranked);
+        synchronized (this) {
+            // 불러오는 동안 삭제된 게시글 제외
+            top = posts.stream().filter(post -> candidates.contains(post.id())).toList();
+        }
+
+        // 후보의 절반(최소 size 개)만 남기고, 남긴 후보 중 가장 낮은 빈도를 새 후보 기준으로 한다.
+        List<Long> remaining = ranked.stream().filter(candidates::contains).toList();
+        int keep = Math.max(properties.size(), properties.maxCandidates() / 2);
+        if (remaining.size() > keep) {
+            remaining.subList(keep, remaining.size()).forEach(candidates::remove);
+            threshold = estimates.get(remaining.get(keep - 1));
+        } else {
+            threshold = 0;
+        }
+    }
+
+    /**
+     * 추정 빈도를 모두 절반으로 줄인다.
+     */
+    void decay() {
+        sketch.decay();
+        threshold >>>= 1;
+    }
+
+    // 순위 순으로 최대 size 개의 응답, 캐시에 없는 게시글만 한 번에 조회하고 삭제된 게시글은 후보에서 제외
+    private List<PostResponse> load(List<Long> ranked) {
+        int size = properties.size();
+        List<PostResponse> posts = new ArrayList<>(size);
+        int from = 0;
+        while (posts.size() < size && from < ranked.size()) {
+            List<Long> postIds = ranked.subList(from, Math.min(from + size - posts.size(), ranked.size()));
+            from += postIds.size();
+
+            Map<Long, PostResponse> postsById = new HashMap<>();
+            List<Long> misses = new ArrayList<>();
+            for (Long postId : postIds) {
+                PostSnapshot cached = postBodyCache.peekSnapshot(postId);
+                if (cached != null) {
+                    // DB 에서 조회한 게시글과 같이 DB 에 반영된 조회수
+                    postsById.put(postId, cached.post().withViews(postViewCounter.flushedViews(cached)));
+                } else {
+                    misses.add(postId);
+                }
+            }
+            if (!misses.isEmpty()) {
+                for (Post post : postRepository.findAllById(misses)) {
+                    postsById.put(post.getId(), PostResponse.from(post));
+                }
+            }
+
+            for (Long postId : postIds) {
+                PostResponse post = postsById.get(postId);
+                if (post != null) {
+                    posts.add(post);
+                } else {
+                    candidates.remove(postId);
+                }
+            }
+        }
+        return posts;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("인기 게시글 갱신에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.sparta.board.benchmark;
+
+import com.sparta.board.AnonymousBoardApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 플랫폼 스레드, 가상 스레드 실행 방식의 처리량과 p99 지연시간 비교
+ * 실행 방식마다 애플리케이션을 test 프로필(H2)로 띄우고 조회, 생성, 수정이 섞인 요청을 보낸다.
+ * --spring.datasource.* 인자를 넘기면 실제 MySQL 로 측정할 수 있다.
+ *
+ * 옵션: --duration=초 --concurrency=동시 요청 수 --write-ratio=쓰기 요청 비율(0~1)
+ */
+public class ExecutionModeBenchmark {
+    private static final String PASSWORD = "benchmark";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "20"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        double writeRatio = Double.parseDouble(options.getOrDefault("write-ratio", "0.2"));
+        String[] springArgs = Arrays.stream(args).filter(arg -> arg.startsWith("--spring.")).toArray(String[]::new);
+
+        List<Result> results = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            results.add(run(virtualThreads, durationSeconds, concurrency, writeRatio, springArgs));
+        }
+
+        System.out.printf("%n%-10s %12s %10s %10s %10s%n", "mode", "req/s", "p50(ms)", "p99(ms)", "errors");
+        results.forEach(result -> System.out.printf("%-10s %12.1f %10.2f %10.2f %10d%n",
+                result.mode(), result.throughput(), result.p50Millis(), result.p99Millis(), result.errors()));
+    }
+
+    private static Result run(boolean virtualThreads, int durationSeconds, int concurrency, double writeRatio,
+                              String[] springArgs) throws Exception {
+        List<String> appArgs = new ArrayList<>(List.of(
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--logging.level.root=warn",
+                "--logging.level.com.sparta.board=warn",
+                "--logging.level.org.hibernate.SQL=warn",
+                "--board.execution.virtual-threads=" + virtualThreads,
+                "--board.execution.bulkhead.enabled=" + virtualThreads
+        ));
+        appArgs.addAll(List.of(springArgs));
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(
+                AnonymousBoardApplication.class, appArgs.toArray(String[]::new))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port + "/api/posts";
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newFixedThreadPool(Math.max(4, concurrency / 10)))
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            long seedPostId = createPost(client, baseUrl);
+
+            // 워밍업
+            drive(client, baseUrl, seedPostId, concurrency, writeRatio, Duration.ofSeconds(Math.min(5, durationSeconds)));
+            Load load = drive(client, baseUrl, seedPostId, concurrency, writeRatio, Duration.ofSeconds(durationSeconds));
+
+            long[] latencies = load.latencies();
+            Arrays.sort(latencies);
+            return new Result(
+                    virtualThreads ? "virtual" : "platform",
+                    latencies.length / (double) durationSeconds,
+                    percentile(latencies, 0.50) / 1_000_000.0,
+                    percentile(latencies, 0.99) / 1_000_000.0,
+                    load.errors()
+            );
+        }
+    }
+
+    private static Load drive(HttpClient client, String baseUrl, long postId, int concurrency, double writeRatio,
+                              Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<Load>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(workers.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                long errors = 0;
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = nextRequest(baseUrl, postId, writeRatio);
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() >= 400) {
+                            errors++;
+                        }
+                    } catch (IOException e) {
+                        errors++;
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - start;
+                }
+                return new Load(Arrays.copyOf(latencies, count), errors);
+            }));
+        }
+
+        long[] merged = new long[0];
+        long errors = 0;
+        for (Future<Load> future : futures) {
+            Load load = future.get();
+            int offset = merged.length;
+            merged = Arrays.copyOf(merged, offset + load.latencies().length);
+            System.arraycopy(load.latencies(), 0, merged, offset, load.latencies().length);
+            errors += load.errors();
+        }
+        workers.shutdown();
+        return new Load(merged, errors);
+    }
+
+    private static HttpRequest nextRequest(String baseUrl, long postId, double writeRatio) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() >= writeRatio) {
+            URI uri = random.nextBoolean() ? URI.create(baseUrl) : URI.create(baseUrl + "/" + postId);
+            return HttpRequest.newBuilder(uri).GET().build();
+        }
+        if (random.nextBoolean()) {
+            return jsonRequest(URI.create(baseUrl), "POST", body("benchmark title"));
+        }
+        return jsonRequest(URI.create(baseUrl + "/" + postId), "PUT", body("updated title"));
+    }
+
+    private static long createPost(HttpClient client, String baseUrl) throws Exception {
+        HttpResponse<String> response = client.send(
+                jsonRequest(URI.create(baseUrl), "POST", body("seed title")),
+                HttpResponse.BodyHandlers.ofString()
+        );
+        String body = response.body();
+        int start = body.indexOf("\"id\":") + 5;
+        int end = body.indexOf(',', start);
+        return Long.parseLong(body.substring(start, end).trim());
+    }
+
+    private static HttpRequest jsonRequest(URI uri, String method, String body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String body(String title) {
+        return """
+                {"name":"benchmark","password":"%s","title":"%s","content":"benchmark content"}
+                """.formatted(PASSWORD, title);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && !arg.startsWith("--spring.") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+
+    private record Load(long[] latencies, long errors) {
+    }
+
+    private record Result(String mode, double throughput, double p50Millis, double p99Millis, long errors) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.sparta.board.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LRU/TTL 캐시 테스트")
+class LruTtlCacheTest {
+
+    @DisplayName("최대 크기를 넘으면, 가장 오래 조회되지 않은 항목을 제거한다.")
+    @Test
+    void givenFullCache_whenPutting_thenEvictLeastRecentlyUsed() {
+        // Given
+        LruTtlCache<Long, String> sut = new LruTtlCache<>(2, Duration.ofMinutes(1));
+        sut.put(1L, "first");
+        sut.put(2L, "second");
+        sut.get(1L);
+
+        // When
+        sut.put(3L, "third");
+
+        // Then
+        assertThat(sut.get(1L)).isEqualTo("first");
+        assertThat(sut.get(2L)).isNull();
+        assertThat(sut.get(3L)).isEqualTo("third");
+        assertThat(sut.stats().evictionCount()).isEqualTo(1);
+    }
+
+    @DisplayName("큰 캐시는 세그먼트로 나누어도 최대 크기를 지키고, 세그먼트마다 가장 오래 조회되지 않은 항목을 제거한다.")
+    @Test
+    void givenSegmentedCache_whenPutting_thenEvictLeastRecentlyUsedPerSegment() {
+        // Given
+        LruTtlCache<Long, Long> sut = new LruTtlCache<>(1024, Duration.ofMinutes(1));
+        for (long key = 0; key < 1024; key++) {
+            sut.put(key, key);
+        }
+        for (long key = 0; key < 512; key++) {
+            sut.get(key);
+        }
+
+        // When
+        for (long key = 1024; key < 1536; key++) {
+            sut.put(key, key);
+        }
+
+        // Then
+        assertThat(sut.stats().size()).isEqualTo(1024);
+        assertThat(sut.stats().evictionCount()).isEqualTo(512);
+        for (long key = 0; key < 512; key++) {
+            assertThat(sut.peek(key)).isEqualTo(key);
+        }
+        for (long key = 512; key < 1024; key++) {
+            assertThat(sut.peek(key)).isNull();
+        }
+    }
+
+    @DisplayName("만료 시간이 지난 항목은 조회되지 않는다.")
+    @Test
+    void givenExpiredEntry_whenGetting_thenReturnNull() {
+        // Given
+        LruTtlCache<Long, String> sut = new LruTtlCache<>(10, Duration.ZERO);
+        sut.put(1L, "expired");
+
+        // When
+        String actual = sut.get(1L);
+
+        // Then
+        assertThat(actual).isNull();
+        assertThat(sut.stats().size()).isZero();
+    }
+
+    @DisplayName("조회 결과에 따라 적중률을 계산한다.")
+    @Test
+    void givenHitAndMiss_whenGettingStats_thenReturnHitRate() {
+        // Given
+        LruTtlCache<Long, String> sut = new LruTtlCache<>(10, Duration.ofMinutes(1));
+        sut.put(1L, "value");
+
+        // When
+        sut.get(1L);
+        sut.get(2L);
+
+        // Then
+        CacheStats stats = sut.stats();
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+    }
+
+    @DisplayName("저장된 값을 확인만 하는 조회는 적중률에 포함하지 않는다.")
+    @Test
+    void givenPeek_whenGettingStats_thenNotCounted() {
+        // Given
+        LruTtlCache<Long, String> sut = new LruTtlCache<>(10, Duration.ofMinutes(1));
+        sut.put(1L, "value");
+        sut.reserve(2L);
+
+        // When
+        String hit = sut.peek(1L);
+        String reserved = sut.peek(2L);
+
+        // Then
+        assertThat(hit).isEqualTo("value");
+        assertThat(reserved).isNull();
+        assertThat(sut.stats().hitCount()).isZero();
+        assertThat(sut.stats().missCount()).isZero();
+    }
+
+    @DisplayName("원본 조회 중 같은 키가 무효화되면, 조회한 값을 저장하지 않는다.")
+    @Test
+    void givenRemovedDuringLoad_whenPuttingIfReserved_thenDiscardValue() {
+        // Given
+        LruTtlCache<Long, String> sut = new LruTtlCache<>(10, Duration.ofMinutes(1));
+        long reservation = sut.reserve(1L);
+        sut.remove(1L);
+
+        // When
+        boolean actual = sut.putIfReserved(1L, reservation, "stale");
+
+        // Then
+        assertThat(actual).isFalse();
+        assertThat(sut.get(1L)).isNull();
+    }
+
+    @DisplayName("원본 조회 중 다른 키가 무효화되어도, 조회한 값을 저장한다.")
+    @Test
+    void givenOtherKeyRemovedDuringLoad_whenPuttingIfReserved_thenStoreValue() {
+        // Given
+        LruTtlCache<Long, String> sut = new LruTtlCache<>(10, Duration.ofMinutes(1));
+        long reservation = sut.reserve(1L);
+        sut.remove(2L);
+
+        // When
+        boolean actual = sut.putIfReserved(1L, reservation, "fresh");
+
+        // Then
+        assertThat(actual).isTrue();
+        assertThat(sut.get(1L)).isEqualTo("fresh");
+    }
+}
@@ -0,0 +1,169 @@
+package com.sparta.board.cache;
+
+import com.sparta.board.config.PostListProperties;
+import com.sparta.board.config.PostListSnapshotProperties;
+import com.sparta.board.dto.response.PostPageResponse;
+import com.sparta.board.dto.response.PostSummaryResponse;
+import com.sparta.board.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@DisplayName("게시글 목록 첫 페이지 스냅샷 테스트")
+class PostListSnapshotTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 11, 1, 12, 0, 0);
+
+    private PostRepository postRepository;
+    private PostListSnapshot sut;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        sut = new PostListSnapshot(
+                postRepository,
+                new PostListSnapshotProperties(true, 3, Duration.ofMinutes(1), true),
+                new PostListProperties(100)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+    @DisplayName("처음 조회하면 DB 에서 스냅샷을 만들고, 이후에는 스냅샷을 반환한다.")
+    @Test
+    void givenNothing_whenGetFirstPage_thenLoadOnce() {
+        // Given
+        given(postRepository.findFirstPage(100, PageRequest.of(0, 4)))
+                .willReturn(List.of(createSummary(2L, NOW), createSummary(1L, NOW.minusMinutes(1))));
+
+        // When
+        sut.getFirstPage(2);
+        PostPageResponse actual = sut.getFirstPage(2);
+
+        // Then
+        assertThat(actual.posts()).extracting("id").containsExactly(2L, 1L);
+        assertThat(actual.nextCursor()).isNull();
+        then(postRepository).should(times(1)).findFirstPage(anyInt(), any());
+    }
+
+    @DisplayName("첫 조회 중 게시글이 변경되면, 조회 결과를 스냅샷으로 쓰지 않고 다음 조회에서 다시 조회한다.")
+    @Test
+    void givenChangedDuringFirstLoad_whenGetFirstPage_thenDiscardLoadedSnapshot() {
+        // Given
+        given(postRepository.findFirstPage(100, PageRequest.of(0, 4)))
+                .willAnswer(invocation -> {
+                    // 삭제 이전 목록을 읽은 뒤 삭제가 커밋된 경우
+                    sut.onDeleted(2L);
+                    return List.of(createSummary(2L, NOW), createSummary(1L, NOW.minusMinutes(1)));
+                })
+                .willReturn(List.of(createSummary(1L, NOW.minusMinutes(1))));
+        sut.getFirstPage(2);
+
+        // When
+        PostPageResponse actual = sut.getFirstPage(2);
+
+        // Then
+        assertThat(actual.posts()).extracting("id").containsExactly(1L);
+        then(postRepository).should(times(2)).findFirstPage(anyInt(), any());
+    }
+
+    @DisplayName("게시글이 생성되면, DB 조회 없이 스냅샷 맨 앞에 추가한다.")
+    @Test
+    void givenSnapshot_whenCreated_thenPrependPost() {
+        // Given
+        given(postRepository.findFirstPage(100, PageRequest.of(0, 4)))
+                .willReturn(List.of(createSummary(2L, NOW), createSummary(1L, NOW.minusMinutes(1))));
+        sut.getFirstPage(3);
+
+        // When
+        sut.onCreated(createSummary(3L, NOW.plusMinutes(1)));
+        PostPageResponse actual = sut.getFirstPage(3);
+
+        // Then
+        assertThat(actual.posts()).extracting("id").containsExactly(3L, 2L, 1L);
+        then(postRepository).should(times(1)).findFirstPage(anyInt(), any());
+    }
+
+    @DisplayName("스냅샷 크기를 넘으면, 가장 오래된 게시글을 제외하고 다음 커서를 반환한다.")
+    @Test
+    void givenFullSnapshot_whenCreated_thenTrimOldest() {
+        // Given
+        given(postRepository.findFirstPage(100, PageRequest.of(0, 4))).willReturn(List.of(
+                createSummary(3L, NOW),
+                createSummary(2L, NOW.minusMinutes(1)),
+                createSummary(1L, NOW.minusMinutes(2))
+        ));
+        sut.getFirstPage(3);
+
+        // When
+        sut.onCreated(createSummary(4L, NOW.plusMinutes(1)));
+        PostPageResponse actual = sut.getFirstPage(3);
+
+        // Then
+        assertThat(actual.posts()).extracting("id").containsExactly(4L, 3L, 2L);
+        assertThat(actual.nextCursor()).isNotNull();
+    }
+
+    @DisplayName("게시글이 수정, 삭제되면 스냅샷에 반영한다.")
+    @Test
+    void givenSnapshot_whenUpdatedAndDeleted_thenApply() {
+        // Given
+        given(postRepository.findFirstPage(100, PageRequest.of(0, 4)))
+                .willReturn(List.of(createSummary(2L, NOW), createSummary(1L, NOW.minusMinutes(1))));
+        sut.getFirstPage(3);
+        PostSummaryResponse updated = new PostSummaryResponse(2L, "testName", "updatedTitle", "testContent", NOW);
+
+        // When
+        sut.onUpdated(updated);
+        sut.onDeleted(1L);
+        PostPageResponse actual = sut.getFirstPage(3);
+
+        // Then
+        assertThat(actual.posts()).extracting("id", "title")
+                .containsExactly(tuple(2L, "updatedTitle"));
+    }
+
+    @DisplayName("stale-while-revalidate 모드에서 DB 조회가 실패해도 마지막 스냅샷을 반환한다.")
+    @Test
+    void givenExpiredSnapshotAndSlowDatabase_whenGetFirstPage_thenReturnStaleSnapshot() {
+        // Given
+        PostListSnapshot expiring = new PostListSnapshot(
+                postRepository,
+                new PostListSnapshotProperties(true, 3, Duration.ZERO, true),
+                new PostListProperties(100)
+        );
+        given(postRepository.findFirstPage(100, PageRequest.of(0, 4)))
+                .willReturn(List.of(createSummary(1L, NOW)))
+                .willThrow(new QueryTimeoutException("timeout"));
+        expiring.getFirstPage(3);
+
+        // When
+        PostPageResponse actual = expiring.getFirstPage(3);
+
+        // Then
+        assertThat(actual.posts()).extracting("id").containsExactly(1L);
+        expiring.shutdown();
+    }
+
+    private PostSummaryResponse createSummary(Long postId, LocalDateTime createdDateTime) {
+        return new PostSummaryResponse(postId, "testName", "testTitle", "testContent", createdDateTime);
+    }
+}
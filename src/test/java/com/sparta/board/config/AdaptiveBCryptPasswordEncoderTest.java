@@ -0,0 +1,68 @@
+package com.sparta.board.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("작업 비용 자동 조정 BCryptPasswordEncoder 테스트")
+class AdaptiveBCryptPasswordEncoderTest {
+
+    @DisplayName("목표 시간에 맞춰 최소, 최대 작업 비용 사이의 값을 선택한다.")
+    @Test
+    void givenTargetLatency_whenCalibrating_thenStrengthWithinBounds() {
+        // Given
+        PasswordProperties.Strength properties = new PasswordProperties.Strength(Duration.ofMillis(20), 4, 8, 0);
+
+        // When
+        AdaptiveBCryptPasswordEncoder actual = AdaptiveBCryptPasswordEncoder.calibrate(properties);
+
+        // Then
+        assertThat(actual.getStrength()).isBetween(4, 8);
+    }
+
+    @DisplayName("고정 작업 비용을 설정하면 측정 없이 해당 값을 사용한다.")
+    @Test
+    void givenFixedStrength_whenCalibrating_thenUseFixedStrength() {
+        // Given
+        PasswordProperties.Strength properties = new PasswordProperties.Strength(Duration.ofMillis(20), 4, 8, 6);
+
+        // When
+        AdaptiveBCryptPasswordEncoder actual = AdaptiveBCryptPasswordEncoder.calibrate(properties);
+
+        // Then
+        assertThat(actual.getStrength()).isEqualTo(6);
+    }
+
+    @DisplayName("저장된 비밀번호의 작업 비용이 현재 설정보다 낮을 때만 다시 암호화가 필요하다.")
+    @Test
+    void givenDifferentStrength_whenCheckingUpgrade_thenTrueOnlyIfLower() {
+        // Given
+        AdaptiveBCryptPasswordEncoder sut = new AdaptiveBCryptPasswordEncoder(6);
+
+        // When & Then
+        assertThat(sut.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"))).isTrue();
+        assertThat(sut.upgradeEncoding(new BCryptPasswordEncoder(8).encode("password"))).isFalse();
+        assertThat(sut.upgradeEncoding(sut.encode("password"))).isFalse();
+    }
+
+    @DisplayName("작업 비용을 다르게 측정한 인스턴스끼리 번갈아 다시 암호화하지 않는다.")
+    @Test
+    void givenInstancesWithDifferentStrength_whenUpgrading_thenConverge() {
+        // Given
+        AdaptiveBCryptPasswordEncoder weaker = new AdaptiveBCryptPasswordEncoder(4);
+        AdaptiveBCryptPasswordEncoder stronger = new AdaptiveBCryptPasswordEncoder(5);
+        String encoded = weaker.encode("password");
+
+        // When
+        String upgraded = stronger.upgradeEncoding(encoded) ? stronger.encode("password") : encoded;
+
+        // Then
+        assertThat(upgraded).isNotEqualTo(encoded);
+        assertThat(weaker.upgradeEncoding(upgraded)).isFalse();
+        assertThat(stronger.upgradeEncoding(upgraded)).isFalse();
+    }
+}
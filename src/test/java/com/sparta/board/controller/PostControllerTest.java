@@ -1,16 +1,26 @@
 package com.sparta.board.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.board.cache.PostBody;
 import com.sparta.board.config.AppConfig;
+import com.sparta.board.config.PostBulkProperties;
 import com.sparta.board.dto.request.PostRequest;
+import com.sparta.board.dto.response.PostPageResponse;
 import com.sparta.board.dto.response.PostResponse;
+import com.sparta.board.dto.response.PostSearchResponse;
+import com.sparta.board.dto.response.PostSummaryResponse;
 import com.sparta.board.entity.Post;
+import com.sparta.board.exception.InvalidCursorException;
 import com.sparta.board.exception.InvalidPasswordException;
+import com.sparta.board.service.PostExportService;
 import com.sparta.board.service.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
@@ -18,40 +28,54 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 
-@Import(AppConfig.class)
+@Import({AppConfig.class, SimpleMeterRegistry.class})
+@EnableConfigurationProperties(PostBulkProperties.class)
 @WebMvcTest(PostController.class)
 @DisplayName("게시글 API 컨트롤러 테스트")
 class PostControllerTest {
     private final MockMvc mvc;
     private final ObjectMapper objectMapper;
     private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
 
     @MockBean
     private PostService postService;
+    @MockBean
+    private PostExportService postExportService;
 
     PostControllerTest(
             @Autowired MockMvc mvc,
             @Autowired ObjectMapper objectMapper,
-            @Autowired PasswordEncoder passwordEncoder) {
+            @Autowired PasswordEncoder passwordEncoder,
+            @Autowired MeterRegistry meterRegistry) {
         this.mvc = mvc;
         this.objectMapper = objectMapper;
         this.passwordEncoder = passwordEncoder;
+        this.meterRegistry = meterRegistry;
     }
 
     @Test
@@ -120,16 +144,67 @@ class PostControllerTest {
         // auditing 사용으로 실제 db 까지 안가서 날짜는 구분못하는데 괜찮은지?
     }
 
+    @Test
+    @DisplayName("[Controller][POST] 게시글 일괄 작성 시 유효성 검증에 실패한 게시글만 실패 결과 반환")
+    void givenBulkPostRequests_whenRequesting_thenReturnResultsInOrder() throws Exception {
+        //given
+        PostRequest first = PostRequest.of("testName1", "testPassword", "test Title1", "test Content1");
+        PostRequest invalid = PostRequest.of("", "", "", "");
+        PostRequest third = PostRequest.of("testName3", "testPassword", "test Title3", "test Content3");
+        given(postService.createPosts(List.of(first, third))).willReturn(List.of(
+                new PostResponse(1L, first.name(), first.title(), first.content(), 0, LocalDateTime.now(), LocalDateTime.now()),
+                new PostResponse(2L, third.name(), third.title(), third.content(), 0, LocalDateTime.now(), LocalDateTime.now())
+        ));
+
+        //when
+        ResultActions actions = mvc.perform(
+                post("/api/posts/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(first, invalid, third)))
+        );
+
+        //then
+        actions
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[0].post.id").value(1L))
+                .andExpect(jsonPath("$[1].post").isEmpty())
+                .andExpect(jsonPath("$[1].errors.name").value("이름은 최소 2자리 이상이어야합니다."))
+                .andExpect(jsonPath("$[1].errors.title").value("제목을 입력해주세요."))
+                .andExpect(jsonPath("$[2].post.id").value(2L))
+                .andExpect(jsonPath("$[2].post.title").value(third.title()));
+    }
+
+    @Test
+    @DisplayName("[Controller][POST] 게시글 일괄 작성 시 모든 게시글이 유효성 검증에 실패하면 상태코드 400 반환")
+    void givenInvalidBulkPostRequests_whenRequesting_thenBadRequest() throws Exception {
+        //given
+        PostRequest invalid = PostRequest.of("", "", "", "");
+
+        //when
+        ResultActions actions = mvc.perform(
+                post("/api/posts/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(invalid)))
+        );
+
+        //then
+        actions
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].errors.password").value("비밀번호는 최소 4자리 이상이어야합니다."));
+        then(postService).shouldHaveNoInteractions();
+    }
+
     @Test
     @DisplayName("[Controller][GET] 게시글 목록 조회 성공")
     void givenNothing_whenRequesting_thenSuccess() throws Exception {
         //given
-        ArrayList<PostResponse> response = new ArrayList<>();
-        response.add(new PostResponse(1L, "testName1", "testTitle1", "testContent1", LocalDateTime.now()));
-        response.add(new PostResponse(2L, "testName2", "testTitle2", "testContent2", LocalDateTime.now()));
-        response.add(new PostResponse(3L, "testName3", "testTitle3", "testContent3", LocalDateTime.now()));
+        ArrayList<PostSummaryResponse> response = new ArrayList<>();
+        response.add(new PostSummaryResponse(1L, "testName1", "testTitle1", "testContent1", LocalDateTime.now()));
+        response.add(new PostSummaryResponse(2L, "testName2", "testTitle2", "testContent2", LocalDateTime.now()));
+        response.add(new PostSummaryResponse(3L, "testName3", "testTitle3", "testContent3", LocalDateTime.now()));
 
-        when(postService.getPosts()).thenReturn(response);
+        when(postService.getPosts(null, 20)).thenReturn(PostPageResponse.of(response, "nextCursor"));
         //when
         ResultActions actions = mvc.perform(
                 get("/api/posts")
@@ -140,22 +215,171 @@ class PostControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string(containsString("testName1")))
                 .andExpect(content().string(containsString("testName2")))
-                .andExpect(content().string(containsString("testName3")));
+                .andExpect(content().string(containsString("testName3")))
+                .andExpect(jsonPath("$.nextCursor").value("nextCursor"));
+    }
+
+    @Test
+    @DisplayName("[Controller][GET] 변경되지 않은 게시글 목록 조회 시 상태코드 304 반환")
+    void givenETag_whenRequestingUnmodifiedPosts_thenNotModified() throws Exception {
+        //given
+        LocalDateTime createdDateTime = LocalDateTime.of(2023, 11, 1, 12, 0, 0);
+        List<PostSummaryResponse> posts = List.of(
+                new PostSummaryResponse(1L, "testName1", "testTitle1", "testContent1", createdDateTime)
+        );
+        when(postService.getPosts(null, 20)).thenReturn(PostPageResponse.of(posts, null));
+        String eTag = mvc.perform(get("/api/posts"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        //when
+        ResultActions actions = mvc.perform(
+                get("/api/posts")
+                        .header("If-None-Match", eTag)
+        );
+
+        //then
+        actions
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("[Controller][GET] 내용이 바뀐 게시글 목록 조회 시 이전 ETag 로 요청해도 새 ETag 와 함께 상태코드 200 반환")
+    void givenOutdatedETag_whenRequestingModifiedPosts_thenReturnPosts() throws Exception {
+        //given
+        LocalDateTime createdDateTime = LocalDateTime.of(2023, 11, 1, 12, 0, 0);
+        when(postService.getPosts(null, 20)).thenReturn(PostPageResponse.of(List.of(
+                new PostSummaryResponse(1L, "testName1", "testTitle1", "testContent1", createdDateTime)
+        ), null));
+        String eTag = mvc.perform(get("/api/posts"))
+                .andReturn().getResponse().getHeader("ETag");
+        when(postService.getPosts(null, 20)).thenReturn(PostPageResponse.of(List.of(
+                new PostSummaryResponse(1L, "testName1", "testTitle1", "testContent2", createdDateTime)
+        ), null));
+
+        //when
+        ResultActions actions = mvc.perform(
+                get("/api/posts")
+                        .header("If-None-Match", eTag)
+        );
+
+        //then
+        actions
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(content().string(containsString("testContent2")));
     }
 
     @Test
     @DisplayName("[Controller][GET] 게시글 목록 없는 경우 조회")
     void givenNothing_whenRequesting_thenNoContentSuccess() throws Exception {
         //given
-        when(postService.getPosts()).thenReturn(List.of());
+        when(postService.getPosts(null, 20)).thenReturn(PostPageResponse.of(List.of(), null));
+        //when
+        ResultActions actions = mvc.perform(
+                get("/api/posts")
+        );
+
+        actions
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts").isEmpty());
+    }
+
+    @Test
+    @DisplayName("[Controller][GET] 커서와 조회 개수로 게시글 목록 조회")
+    void givenCursorAndLimit_whenRequesting_thenSuccess() throws Exception {
+        //given
+        when(postService.getPosts("cursor", 10)).thenReturn(PostPageResponse.of(List.of(), null));
+        //when
+        ResultActions actions = mvc.perform(
+                get("/api/posts")
+                        .param("cursor", "cursor")
+                        .param("limit", "10")
+        );
+
+        actions
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    @DisplayName("[Controller][GET] 검색어로 게시글 검색")
+    void givenQuery_whenSearching_thenSuccess() throws Exception {
+        //given
+        PostResponse post = new PostResponse(1L, "testName", "검색 제목", "testContent", 0, LocalDateTime.now(), LocalDateTime.now());
+        when(postService.searchPosts("검색", 1, 10)).thenReturn(PostSearchResponse.of(List.of(post), 11, 1, 10));
+        //when
+        ResultActions actions = mvc.perform(
+                get("/api/posts/search")
+                        .param("q", "검색")
+                        .param("page", "1")
+                        .param("size", "10")
+        );
+
+        actions
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts[0].title").value("검색 제목"))
+                .andExpect(jsonPath("$.totalCount").value(11));
+    }
+
+    @Test
+    @DisplayName("[Controller][GET] 인기 게시글 조회")
+    void givenLimit_whenGetTrendingPosts_thenSuccess() throws Exception {
+        //given
+        PostResponse post = new PostResponse(1L, "testName", "인기 제목", "testContent", 100, LocalDateTime.now(), LocalDateTime.now());
+        when(postService.getTrendingPosts(5)).thenReturn(List.of(post));
+        //when
+        ResultActions actions = mvc.perform(get("/api/posts/trending").param("limit", "5"));
+
+        actions
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("인기 제목"))
+                .andExpect(jsonPath("$[0].views").value(100));
+    }
+
+    @Test
+    @DisplayName("[Controller][GET] 잘못된 커서로 목록 조회 시 상태코드 400 반환")
+    void givenInvalidCursor_whenRequesting_thenBadRequest() throws Exception {
+        //given
+        when(postService.getPosts("invalid", 20)).thenThrow(new InvalidCursorException());
         //when
         ResultActions actions = mvc.perform(
                 get("/api/posts")
+                        .param("cursor", "invalid")
         );
 
         actions
                 .andDo(print())
-                .andExpect(status().isOk());
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.msg").value("유효하지 않은 페이지 커서입니다."));
+    }
+
+    @Test
+    @DisplayName("[Controller][GET] 게시글 NDJSON 내보내기 성공")
+    void givenPosts_whenExporting_thenStreamNdjson() throws Exception {
+        //given
+        given(postExportService.exportPosts(any())).willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(0);
+            outputStream.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        //when
+        MvcResult result = mvc.perform(get("/api/posts/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
     }
 
     @Test
@@ -170,8 +394,8 @@ class PostControllerTest {
                 "test Content"
         );
 
-        when(postService.getPost(postId)).thenReturn(
-                PostResponse.from(request.toEntity(passwordEncoder))
+        when(postService.getPostBody(postId)).thenReturn(
+                postBody(PostResponse.from(request.toEntity(passwordEncoder)), 2048)
         );
 
         //when
@@ -182,9 +406,96 @@ class PostControllerTest {
 
         actions
                 .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().doesNotExist("Content-Encoding"))
                 .andExpect(jsonPath("$.name").value(request.name()))
                 .andExpect(jsonPath("$.title").value(request.title()))
                 .andExpect(jsonPath("$.content").value(request.content()));
+        then(postService).should(times(1)).recordView(postId);
+    }
+
+    @Test
+    @DisplayName("[Controller][GET] 변경되지 않은 게시글 상세 조회 시 조회수를 증가시키지 않고 상태코드 304 반환")
+    void givenETag_whenRequestingUnmodifiedPost_thenNotModified() throws Exception {
+        //given
+        Long postId = 1L;
+        when(postService.getPostBody(postId)).thenReturn(postBody(
+                new PostResponse(postId, "testName", "testTitle", "testContent", 0,
+                        LocalDateTime.of(2023, 11, 1, 12, 0, 0, 123), null), 2048
+        ));
+        String eTag = mvc.perform(get("/api/posts/" + postId))
+                .andReturn().getResponse().getHeader("ETag");
+
+        //when
+        ResultActions actions = mvc.perform(
+                get("/api/posts/" + postId)
+                        .header("If-None-Match", eTag)
+        );
+
+        //then
+        actions
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        then(postService).should(times(2)).getPostBody(postId);
+        then(postService).should(times(1)).recordView(postId);
+    }
+
+    @Test
+    @DisplayName("[Controller][GET] 수정된 게시글 상세 조회 시 새 게시글 반환")
+    void givenOutdatedETag_whenRequestingModifiedPost_thenReturnPost() throws Exception {
+        //given
+        Long postId = 1L;
+        LocalDateTime createdDateTime = LocalDateTime.of(2023, 11, 1, 12, 0, 0);
+        when(postService.getPostBody(postId)).thenReturn(
+                postBody(new PostResponse(postId, "testName", "testTitle", "testContent", 0,
+                        createdDateTime, createdDateTime), 2048),
+                postBody(new PostResponse(postId, "testName", "updateTitle", "testContent", 0,
+                        createdDateTime, createdDateTime.plusNanos(1000)), 2048)
+        );
+        String eTag = mvc.perform(get("/api/posts/" + postId))
+                .andReturn().getResponse().getHeader("ETag");
+
+        //when
+        ResultActions actions = mvc.perform(
+                get("/api/posts/" + postId)
+                        .header("If-None-Match", eTag)
+        );
+
+        //then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$.title").value("updateTitle"));
+    }
+
+    @Test
+    @DisplayName("[Controller][GET] gzip 을 허용하면 캐시된 gzip 본문을 그대로 반환")
+    void givenAcceptGzip_whenRequestingPost_thenReturnGzipBody() throws Exception {
+        //given
+        Long postId = 1L;
+        PostResponse post = new PostResponse(
+                postId, "testName", "testTitle", "testContent ".repeat(300), 0, LocalDateTime.now(), null
+        );
+        PostBody body = postBody(post, 0);
+        when(postService.getPostBody(postId)).thenReturn(body);
+
+        //when
+        ResultActions gzip = mvc.perform(get("/api/posts/" + postId).header("Accept-Encoding", "br, gzip"));
+        ResultActions identity = mvc.perform(get("/api/posts/" + postId).header("Accept-Encoding", "gzip;q=0"));
+
+        //then
+        gzip
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", containsString("Accept-Encoding")))
+                .andExpect(content().bytes(body.gzip()));
+        identity
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().bytes(body.json()));
     }
 
     @Test
@@ -193,7 +504,8 @@ class PostControllerTest {
         //given
         Long postId = 1L;
         //when
-        when(postService.getPost(postId)).thenThrow(new NoSuchElementException("조회할 게시글이 없습니다."));
+        when(postService.getPostBody(postId)).thenThrow(new NoSuchElementException("조회할 게시글이 없습니다."));
+        double notFoundCount = notFoundCount();
 
         ResultActions actions = mvc.perform(
                 get("/api/posts/" + postId)
@@ -204,8 +516,10 @@ class PostControllerTest {
                 .andDo(print())
                 .andExpect(status().is4xxClientError())
                 .andExpect(jsonPath("$.msg").value("조회할 게시글이 없습니다."));
+        assertThat(notFoundCount()).isEqualTo(notFoundCount + 1);
     }
 
+
     @Test
     @DisplayName("[Controller][PUT] 게시글 수정 요청 시 정상 응답")
     void givenUpdatePostInfo_whenRequesting_thenUpdate() throws Exception {
@@ -342,4 +656,14 @@ class PostControllerTest {
         actions
                 .andExpect(status().isForbidden());
     }
-}
\ No newline at end of file
+
+    private double notFoundCount() {
+        return meterRegistry.counter(
+                "board.api.errors", "status", "404", "exception", "NoSuchElementException"
+        ).count();
+    }
+
+    private PostBody postBody(PostResponse post, int gzipMinSize) throws Exception {
+        return PostBody.of(objectMapper.writeValueAsBytes(post), post.lastModifiedDateTime(), gzipMinSize);
+    }
+}
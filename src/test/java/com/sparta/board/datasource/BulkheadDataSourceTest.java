@@ -0,0 +1,68 @@
+package com.sparta.board.datasource;
+
+import com.sparta.board.exception.BulkheadFullException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("커넥션 동시 사용 수 제한 테스트")
+class BulkheadDataSourceTest {
+    private final BulkheadDataSource sut = new BulkheadDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:bulkhead;DB_CLOSE_DELAY=-1", "sa", ""),
+            1,
+            Duration.ofMillis(10)
+    );
+
+    @DisplayName("커넥션을 반환하면 허용을 한 번만 돌려준다.")
+    @Test
+    void givenConnection_whenClosingTwice_thenReleasePermitOnce() throws Exception {
+        // Given
+        Connection connection = sut.getConnection();
+        assertThat(sut.availablePermits()).isZero();
+
+        // When
+        connection.close();
+        connection.close();
+
+        // Then
+        assertThat(sut.availablePermits()).isEqualTo(1);
+    }
+
+    @DisplayName("사용 중인 커넥션 수가 제한에 도달하면 대기 시간 이후 예외를 발생한다.")
+    @Test
+    void givenAllPermitsInUse_whenGettingConnection_thenThrowException() throws Exception {
+        // Given
+        try (Connection ignored = sut.getConnection()) {
+            // When & Then
+            assertThatThrownBy(sut::getConnection).isInstanceOf(BulkheadFullException.class);
+        }
+        assertThat(sut.availablePermits()).isEqualTo(1);
+    }
+
+    @DisplayName("트랜잭션 안의 여러 쿼리는 같은 커넥션을 사용해 허용을 다시 기다리지 않는다.")
+    @Test
+    void givenTransaction_whenQueryingTwice_thenUseSinglePermit() {
+        // Given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(sut));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(sut);
+
+        // When
+        Integer actual = transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("select 1", Integer.class)
+                        + jdbcTemplate.queryForObject("select 1", Integer.class)
+        );
+
+        // Then
+        assertThat(actual).isEqualTo(2);
+        assertThat(sut.availablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,77 @@
+package com.sparta.board.datasource;
+
+import com.sparta.board.cache.PostBody;
+import com.sparta.board.dto.request.PostRequest;
+import com.sparta.board.dto.response.PostResponse;
+import com.sparta.board.service.PostService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("복제 지연 중 수정 직후 조회 테스트")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "board.datasource.routing.enabled=true",
+        "board.datasource.replicas[0].name=lagging-replica",
+        "board.datasource.replicas[0].url=" + ReplicaReadAfterWriteTest.REPLICA_URL,
+        "board.datasource.replicas[0].username=sa",
+        "board.datasource.replicas[0].password="
+})
+class ReplicaReadAfterWriteTest {
+    static final String REPLICA_URL = "jdbc:h2:mem:lagging-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;"
+            + "INIT=RUNSCRIPT FROM 'classpath:replica-schema.sql'";
+
+    private final PostService postService;
+    // 복제를 멈춘 복제 DB, 테스트에서 직접 복제한 시점의 게시글만 가지고 있다.
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    ReplicaReadAfterWriteTest(@Autowired PostService postService) {
+        this.postService = postService;
+    }
+
+    @DisplayName("수정 직후 조회하면, 복제 DB 의 이전 게시글이 아닌 수정된 게시글과 수정 시각을 반환한다.")
+    @Test
+    void givenLaggingReplica_whenReadingAfterUpdate_thenReturnUpdatedPost() {
+        // Given
+        PostResponse created = postService.createPost(
+                PostRequest.of("testName", "testPassword", "testTitle", "testContent")
+        );
+        replicate(created);
+        postService.getPostBody(created.id());
+
+        // When
+        PostResponse updated = postService.updatePost(
+                created.id(), PostRequest.of("updateName", "testPassword", "updateTitle", "updateContent")
+        );
+        PostBody postBody = postService.getPostBody(created.id());
+        LocalDateTime modifiedDateTime = postBody.modifiedDateTime();
+        String body = new String(postBody.json(), StandardCharsets.UTF_8);
+
+        // Then
+        assertThat(replica.queryForObject("select title from post where id = ?", String.class, created.id()))
+                .isEqualTo("testTitle");
+        assertThat(modifiedDateTime).isEqualTo(updated.modifiedDateTime());
+        assertThat(body).contains("\"title\":\"updateTitle\"");
+    }
+
+    // 작성 시점의 게시글을 복제 DB 에 복제한 뒤 복제가 멈춘 상태
+    private void replicate(PostResponse post) {
+        replica.update("""
+                        insert into post (id, name, password, title, content, views,
+                                          created_date_time, modified_date_time, deleted)
+                        values (?, ?, 'replicated', ?, ?, ?, ?, ?, false)
+                        """,
+                post.id(), post.name(), post.title(), post.content(), post.views(),
+                post.createdDateTime(), post.modifiedDateTime()
+        );
+    }
+}
@@ -0,0 +1,151 @@
+package com.sparta.board.datasource;
+
+import com.sparta.board.config.DataSourceRoutingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("복제 DB 분산 DataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+    private final List<HikariDataSource> dataSources = new ArrayList<>();
+    private ReplicaRouter replicaRouter;
+
+    @AfterEach
+    void tearDown() {
+        if (replicaRouter != null) {
+            replicaRouter.close();
+        }
+        dataSources.forEach(HikariDataSource::close);
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 복제 DB, 나머지 트랜잭션은 primary 에서 실행한다.")
+    @Test
+    void givenReadOnlyTransaction_whenQuerying_thenUseReplica() {
+        // Given
+        DataSource sut = createRouting(DataSourceRoutingProperties.Strategy.ROUND_ROBIN, "", "replica-1");
+
+        // When & Then
+        assertThat(queryTarget(sut, true)).isEqualTo("replica-1");
+        assertThat(queryTarget(sut, false)).isEqualTo("primary");
+    }
+
+    @DisplayName("복제 DB 를 차례대로 사용한다.")
+    @Test
+    void givenRoundRobin_whenQuerying_thenAlternateReplicas() {
+        // Given
+        DataSource sut = createRouting(DataSourceRoutingProperties.Strategy.ROUND_ROBIN, "", "replica-1", "replica-2");
+
+        // When
+        List<String> actual = List.of(queryTarget(sut, true), queryTarget(sut, true), queryTarget(sut, true));
+
+        // Then
+        assertThat(actual).containsExactly("replica-1", "replica-2", "replica-1");
+    }
+
+    @DisplayName("사용 중인 커넥션이 가장 적은 복제 DB 를 사용한다.")
+    @Test
+    void givenLeastConnections_whenQuerying_thenUseIdleReplica() throws Exception {
+        // Given
+        DataSource sut = createRouting(
+                DataSourceRoutingProperties.Strategy.LEAST_CONNECTIONS, "", "replica-1", "replica-2"
+        );
+
+        // When
+        String actual;
+        try (Connection ignored = dataSources.get(1).getConnection()) {
+            actual = queryTarget(sut, true);
+        }
+
+        // Then
+        assertThat(actual).isEqualTo("replica-2");
+    }
+
+    @DisplayName("복제 DB 에 연결할 수 없으면 primary 에서 실행한다.")
+    @Test
+    void givenUnavailableReplica_whenQuerying_thenFallbackToPrimary() {
+        // Given
+        DataSource sut = createRouting(DataSourceRoutingProperties.Strategy.ROUND_ROBIN, "", "replica-1");
+        dataSources.get(1).close();
+
+        // When
+        String actual = queryTarget(sut, true);
+
+        // Then
+        assertThat(actual).isEqualTo("primary");
+        assertThat(replicaRouter.select()).isNull();
+    }
+
+    @DisplayName("복제 지연이 허용 시간을 넘으면 복구될 때까지 primary 에서 실행한다.")
+    @Test
+    void givenLaggingReplica_whenCheckingHealth_thenFallbackToPrimary() {
+        // Given
+        DataSource sut = createRouting(
+                DataSourceRoutingProperties.Strategy.ROUND_ROBIN, "select lag_seconds from target", "replica-1"
+        );
+        new JdbcTemplate(dataSources.get(1)).update("update target set lag_seconds = 60");
+
+        // When
+        replicaRouter.checkHealth();
+        String lagging = queryTarget(sut, true);
+        new JdbcTemplate(dataSources.get(1)).update("update target set lag_seconds = 0");
+        replicaRouter.checkHealth();
+        String recovered = queryTarget(sut, true);
+
+        // Then
+        assertThat(lagging).isEqualTo("primary");
+        assertThat(recovered).isEqualTo("replica-1");
+    }
+
+    private DataSource createRouting(
+            DataSourceRoutingProperties.Strategy strategy,
+            String lagQuery,
+            String... replicaNames
+    ) {
+        HikariDataSource primary = createDatabase("primary");
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String replicaName : replicaNames) {
+            replicas.add(createDatabase(replicaName));
+        }
+        DataSourceRoutingProperties.Routing routing = new DataSourceRoutingProperties.Routing(
+                true, strategy, Duration.ofHours(1), lagQuery, Duration.ofSeconds(10)
+        );
+        replicaRouter = new ReplicaRouter(replicas, routing, new SimpleMeterRegistry());
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replicaRouter));
+    }
+
+    // DB 마다 자신의 이름을 저장한 테이블을 만들어 어느 DB 에서 실행했는지 확인
+    private HikariDataSource createDatabase(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(2);
+        dataSources.add(dataSource);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table target (name varchar(20), lag_seconds bigint)");
+        jdbcTemplate.update("insert into target values (?, 0)", name);
+        return dataSource;
+    }
+
+    private String queryTarget(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select name from target", String.class)
+        );
+    }
+}
@@ -0,0 +1,230 @@
+package com.sparta.board.feed;
+
+import com.sparta.board.config.PostFeedProperties;
+import com.sparta.board.controller.PostFeedController;
+import com.sparta.board.dto.response.PostSummaryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@DisplayName("게시글 실시간 피드 테스트")
+class PostFeedTest {
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)\\nevent:created\\ndata:\\{\"sequence\":1,");
+
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private PostFeed sut = createFeed(4, 4, 10);
+    private MockMvc mvc = MockMvcBuilders.standaloneSetup(new PostFeedController(sut)).build();
+
+    @AfterEach
+    void tearDown() {
+        unblock.countDown();
+        sut.shutdown();
+    }
+
+    @DisplayName("구독 이후 발행된 이벤트를 구독자에게 보낸다.")
+    @Test
+    void givenSubscriber_whenPublishing_thenSendEvent() throws Exception {
+        // Given
+        MvcResult subscription = subscribe(null);
+
+        // When
+        sut.publish(PostEvent.Type.CREATED, 1L, createSummary(1L));
+        sut.publish(PostEvent.Type.DELETED, 1L, null);
+
+        // Then
+        String actual = awaitContent(subscription, "event:deleted");
+        assertThat(actual)
+                .contains("event:created", "\"title\":\"testTitle\"")
+                .containsSubsequence("event:created", "event:deleted");
+    }
+
+    @DisplayName("Last-Event-ID 로 재연결하면, 이후 이벤트만 DB 조회 없이 다시 보낸다.")
+    @Test
+    void givenLastEventId_whenResubscribing_thenReplayMissedEvents() throws Exception {
+        // Given
+        MvcResult first = subscribe(null);
+        sut.publish(PostEvent.Type.CREATED, 1L, createSummary(1L));
+        String lastEventId = eventId(awaitContent(first, "event:created"));
+        sut.publish(PostEvent.Type.UPDATED, 1L, createSummary(1L));
+        sut.publish(PostEvent.Type.CREATED, 2L, createSummary(2L));
+
+        // When
+        MvcResult resumed = subscribe(lastEventId);
+
+        // Then
+        String actual = awaitContent(resumed, "\"sequence\":3");
+        assertThat(actual)
+                .doesNotContain("\"sequence\":1,")
+                .containsSubsequence("event:updated", "event:created");
+    }
+
+    @DisplayName("링 버퍼에서 밀려난 이벤트 ID 나 알 수 없는 이벤트 ID 로 재연결하면, reset 이벤트를 보낸다.")
+    @Test
+    void givenExpiredOrUnknownEventId_whenResubscribing_thenSendReset() throws Exception {
+        // Given
+        MvcResult first = subscribe(null);
+        sut.publish(PostEvent.Type.CREATED, 1L, createSummary(1L));
+        String expiredEventId = eventId(awaitContent(first, "event:created"));
+        for (long id = 2; id <= 6; id++) {
+            sut.publish(PostEvent.Type.CREATED, id, createSummary(id));
+        }
+
+        // When
+        MvcResult expired = subscribe(expiredEventId);
+        MvcResult unknown = subscribe("previous-process-1");
+
+        // Then
+        assertThat(awaitContent(expired, "event:reset")).doesNotContain("event:created");
+        assertThat(awaitContent(unknown, "event:reset")).doesNotContain("event:created");
+    }
+
+    @DisplayName("링 버퍼에서 밀려난 이벤트 이후 이벤트는 조회할 수 없다.")
+    @Test
+    void givenOverwrittenEvents_whenReadingEventsAfter_thenReturnNull() {
+        // Given
+        for (long id = 1; id <= 6; id++) {
+            sut.publish(PostEvent.Type.CREATED, id, createSummary(id));
+        }
+
+        // When & Then
+        assertThat(sut.eventsAfter(1, 10)).isNull();
+        assertThat(sut.eventsAfter(2, 10)).extracting(PostEvent::sequence).containsExactly(3L, 4L, 5L, 6L);
+        assertThat(sut.eventsAfter(6, 10)).isEmpty();
+    }
+
+    @DisplayName("최대 구독자 수를 넘으면 구독을 거절한다.")
+    @Test
+    void givenMaxSubscribers_whenSubscribing_thenReject() {
+        // Given
+        sut.shutdown();
+        sut = createFeed(4, 4, 1);
+        sut.subscribe(null);
+
+        // When & Then
+        assertThatThrownBy(() -> sut.subscribe(null)).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @DisplayName("쓰기가 막힌 구독자가 전송 스레드를 모두 점유해도, 막힌 구독자 연결을 끊고 다른 구독자에게 이벤트를 보낸다.")
+    @Test
+    void givenStalledSubscribers_whenPublishing_thenDropThemAndKeepSending() throws Exception {
+        // Given
+        sut.shutdown();
+        AtomicInteger blocking = new AtomicInteger(2);
+        sut = new PostFeed(createProperties(4, 4, 10, Duration.ofMillis(200)), new SimpleMeterRegistry()) {
+            @Override
+            SseEmitter createEmitter(long timeout) {
+                return blocking.getAndDecrement() > 0 ? new BlockingEmitter(timeout, unblock) : super.createEmitter(timeout);
+            }
+        };
+        mvc = MockMvcBuilders.standaloneSetup(new PostFeedController(sut)).build();
+        sut.subscribe(null);
+        sut.subscribe(null);
+        MvcResult healthy = subscribe(null);
+
+        // When
+        sut.publish(PostEvent.Type.CREATED, 1L, createSummary(1L));
+
+        // Then
+        awaitContent(healthy, "event:created");
+        await(() -> sut.subscriberCount() == 1);
+        assertThat(sut.senderThreads()).isEqualTo(4);
+
+        unblock.countDown();
+        await(() -> sut.senderThreads() == 2);
+    }
+
+    private MvcResult subscribe(String lastEventId) throws Exception {
+        return mvc.perform(lastEventId == null
+                        ? get("/api/posts/feed")
+                        : get("/api/posts/feed").header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    // 전송 스레드가 보낸 이벤트가 응답에 쓰일 때까지 대기
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = result.getResponse().getContentAsString();
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static String eventId(String content) {
+        Matcher matcher = EVENT_ID.matcher(content);
+        assertThat(matcher.find()).isTrue();
+        return matcher.group(1);
+    }
+
+    private static PostFeed createFeed(int bufferSize, int maxLag, int maxSubscribers) {
+        return new PostFeed(createProperties(bufferSize, maxLag, maxSubscribers, Duration.ofSeconds(10)), new SimpleMeterRegistry());
+    }
+
+    private static PostFeedProperties createProperties(int bufferSize, int maxLag, int maxSubscribers, Duration sendTimeout) {
+        return new PostFeedProperties(bufferSize, maxLag, maxSubscribers, 2, sendTimeout, Duration.ofMinutes(1), Duration.ofHours(1));
+    }
+
+    private static PostSummaryResponse createSummary(Long postId) {
+        return new PostSummaryResponse(postId, "testName", "testTitle", "testContent", LocalDateTime.now());
+    }
+
+    // 연결 직후 주석 이후의 쓰기는 TCP 수신 창이 가득 찬 클라이언트처럼 인터럽트와 관계없이 unblock 까지 막힌다.
+    private static final class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch unblock;
+        private final AtomicInteger sends = new AtomicInteger();
+
+        private BlockingEmitter(long timeout, CountDownLatch unblock) {
+            super(timeout);
+            this.unblock = unblock;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (sends.incrementAndGet() > 1) {
+                boolean interrupted = false;
+                while (unblock.getCount() > 0) {
+                    try {
+                        unblock.await();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            super.send(builder);
+        }
+    }
+}
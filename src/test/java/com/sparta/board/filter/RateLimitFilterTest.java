@@ -0,0 +1,196 @@
+package com.sparta.board.filter;
+
+import com.sparta.board.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("쓰기 요청 처리율 제한 필터 테스트")
+class RateLimitFilterTest {
+    private static final String BULK_PATH = "/api/posts/bulk";
+    private static final int BULK_PERMITS = 4;
+
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("클라이언트 버킷의 토큰을 모두 쓰면 429 로 거절하고, 토큰이 채워지면 다시 허용한다.")
+    @Test
+    void givenClientBucketExhausted_whenWriting_thenRejectUntilRefilled() throws Exception {
+        // Given
+        RateLimitFilter sut = createFilter(2, 1, 100, 100);
+        assertThat(filter(sut, "PUT", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(filter(sut, "PUT", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+
+        // When
+        MockHttpServletResponse rejected = filter(sut, "PUT", "10.0.0.1");
+        MockHttpServletResponse otherClient = filter(sut, "PUT", "10.0.0.2");
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        MockHttpServletResponse refilled = filter(sut, "PUT", "10.0.0.1");
+
+        // Then
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(otherClient.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(refilled.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(rejectedCount("client")).isEqualTo(1);
+    }
+
+    @DisplayName("전체 버킷의 토큰을 모두 쓰면 다른 클라이언트의 요청도 거절하고, 클라이언트 토큰은 반환한다.")
+    @Test
+    void givenGlobalBucketExhausted_whenWriting_thenRejectAllClients() throws Exception {
+        // Given
+        RateLimitFilter sut = createFilter(1, 1, 1, 1);
+        filter(sut, "DELETE", "10.0.0.1");
+
+        // When
+        MockHttpServletResponse actual = filter(sut, "DELETE", "10.0.0.2");
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        MockHttpServletResponse refilled = filter(sut, "DELETE", "10.0.0.2");
+
+        // Then
+        assertThat(actual.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(refilled.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(rejectedCount("global")).isEqualTo(1);
+        assertThat(rejectedCount("client")).isZero();
+    }
+
+    @DisplayName("일괄 작성은 최대 게시글 수만큼 토큰을 사용하고, 버킷 크기보다 많으면 버킷이 가득 찼을 때만 허용한다.")
+    @Test
+    void givenBulkRequest_whenWriting_thenUseTokenPerMaxPost() throws Exception {
+        // Given
+        RateLimitFilter sut = createFilter(2, 1, 100, 100);
+        assertThat(filter(sut, "PUT", "/api/posts/1", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        MockHttpServletResponse notFull = filter(sut, "POST", BULK_PATH, "10.0.0.1");
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        // When
+        MockHttpServletResponse bulk = filter(sut, "POST", BULK_PATH, "10.0.0.1");
+        MockHttpServletResponse rejected = filter(sut, "PUT", "/api/posts/1", "10.0.0.1");
+        now.addAndGet(Duration.ofSeconds(3).toNanos());
+        MockHttpServletResponse refilled = filter(sut, "PUT", "/api/posts/1", "10.0.0.1");
+
+        // Then
+        assertThat(notFull.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(notFull.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(bulk.getStatus()).isEqualTo(HttpStatus.OK.value());
+        // 버킷 크기(2)를 넘어 미리 사용한 토큰(2)이 채워지고 토큰 하나가 채워질 때까지 거절
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(refilled.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @DisplayName("일괄 작성이 전체 버킷에서 거절되면, 클라이언트 버킷에서 사용한 토큰을 모두 반환한다.")
+    @Test
+    void givenGlobalBucketExhausted_whenBulkWriting_thenReleaseAllClientTokens() throws Exception {
+        // Given
+        RateLimitFilter sut = createFilter(4, 1, 4, 4);
+        filter(sut, "POST", "/api/posts", "10.0.0.2");
+
+        // When
+        MockHttpServletResponse rejected = filter(sut, "POST", BULK_PATH, "10.0.0.1");
+        now.addAndGet(Duration.ofMillis(250).toNanos());
+        MockHttpServletResponse retried = filter(sut, "POST", BULK_PATH, "10.0.0.1");
+
+        // Then
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(retried.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(rejectedCount("global")).isEqualTo(1);
+        assertThat(rejectedCount("client")).isZero();
+    }
+
+    @DisplayName("조회 요청은 처리율을 제한하지 않는다.")
+    @Test
+    void givenReadRequests_whenFiltering_thenNotLimited() throws Exception {
+        // Given
+        RateLimitFilter sut = createFilter(1, 1, 1, 1);
+
+        // When & Then
+        for (int i = 0; i < 10; i++) {
+            assertThat(filter(sut, "GET", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+        assertThat(sut.trackedClients()).isZero();
+    }
+
+    @DisplayName("유지할 클라이언트 수에 도달하면, 새 클라이언트는 버킷을 만들지 않고 하나의 공유 버킷을 함께 사용한다.")
+    @Test
+    void givenMaxTrackedClients_whenNewClientsWrite_thenShareOverflowBucket() throws Exception {
+        // Given
+        RateLimitFilter sut = createFilter(1, 1, 100, 100, 2);
+        filter(sut, "POST", "10.0.0.1");
+        filter(sut, "POST", "10.0.0.2");
+
+        // When
+        MockHttpServletResponse first = filter(sut, "POST", "10.0.0.3");
+        MockHttpServletResponse second = filter(sut, "POST", "10.0.0.4");
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(second.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(sut.trackedClients()).isEqualTo(2);
+        assertThat(rejectedCount("overflow")).isEqualTo(1);
+    }
+
+    @DisplayName("주기적 정리에서 가득 찬(유휴) 클라이언트 버킷만 제거한다.")
+    @Test
+    void givenIdleBuckets_whenSweeping_thenEvictOnlyFullBuckets() throws Exception {
+        // Given
+        RateLimitFilter sut = createFilter(1, 1, 100, 100, 2);
+        filter(sut, "POST", "10.0.0.1");
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        filter(sut, "POST", "10.0.0.2");
+
+        // When
+        sut.evictIdle();
+
+        // Then
+        assertThat(sut.trackedClients()).isEqualTo(1);
+        assertThat(filter(sut, "POST", "10.0.0.2").getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    private RateLimitFilter createFilter(
+            int clientCapacity, double clientRefill, int globalCapacity, double globalRefill
+    ) {
+        return createFilter(clientCapacity, clientRefill, globalCapacity, globalRefill, 100);
+    }
+
+    private RateLimitFilter createFilter(
+            int clientCapacity, double clientRefill, int globalCapacity, double globalRefill, int maxTracked
+    ) {
+        RateLimitProperties properties = new RateLimitProperties(
+                true,
+                new RateLimitProperties.Client(clientCapacity, clientRefill, maxTracked, Duration.ofHours(1)),
+                new RateLimitProperties.Global(globalCapacity, globalRefill)
+        );
+        return new RateLimitFilter(properties, BULK_PERMITS, meterRegistry, now::get);
+    }
+
+    private MockHttpServletResponse filter(RateLimitFilter sut, String method, String remoteAddr) throws Exception {
+        return filter(sut, method, "/api/posts/1", remoteAddr);
+    }
+
+    private MockHttpServletResponse filter(
+            RateLimitFilter sut, String method, String path, String remoteAddr
+    ) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = new MockFilterChain();
+        sut.doFilter(request, response, chain);
+        return response;
+    }
+
+    private double rejectedCount(String scope) {
+        return meterRegistry.counter("board.rate-limit.rejected", "scope", scope).count();
+    }
+}
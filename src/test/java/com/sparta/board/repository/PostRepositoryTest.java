@@ -0,0 +1,110 @@
+package com.sparta.board.repository;
+
+import com.sparta.board.config.JpaAuditingConfig;
+import com.sparta.board.dto.response.PostSummaryResponse;
+import com.sparta.board.entity.Post;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("게시글 repository 테스트")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaAuditingConfig.class)
+@DataJpaTest
+class PostRepositoryTest {
+    private final PostRepository postRepository;
+    private final EntityManager entityManager;
+
+    PostRepositoryTest(@Autowired PostRepository postRepository, @Autowired EntityManager entityManager) {
+        this.postRepository = postRepository;
+        this.entityManager = entityManager;
+    }
+
+    @DisplayName("삭제 표시된 게시글은 단건, 목록 조회에서 제외된다.")
+    @Test
+    void givenSoftDeletedPost_whenFinding_thenExcluded() {
+        // Given
+        Post kept = postRepository.save(Post.of("testName", "testPassword", "kept", "testContent"));
+        Post deleted = postRepository.save(Post.of("testName", "testPassword", "deleted", "testContent"));
+        entityManager.flush();
+
+        // When
+        int actual = postRepository.softDelete(deleted.getId(), "testPassword", LocalDateTime.now());
+        entityManager.clear();
+
+        // Then
+        assertThat(actual).isEqualTo(1);
+        assertThat(postRepository.softDelete(deleted.getId(), "testPassword", LocalDateTime.now())).isZero();
+        assertThat(postRepository.findById(deleted.getId())).isEmpty();
+        assertThat(postRepository.findFirstPage(100, PageRequest.of(0, 10)))
+                .extracting(PostSummaryResponse::id)
+                .containsExactly(kept.getId());
+    }
+
+    @DisplayName("검증한 비밀번호 해시가 그대로인 경우에만 UPDATE 한 번으로 수정, 삭제 표시한다.")
+    @Test
+    void givenVerifiedPassword_whenUpdatingOrSoftDeleting_thenChangeOnlyIfPasswordUnchanged() {
+        // Given
+        Post post = postRepository.save(Post.of("testName", "testPassword", "testTitle", "testContent"));
+        entityManager.flush();
+        entityManager.clear();
+        LocalDateTime now = LocalDateTime.now();
+
+        // When
+        int stale = postRepository.updatePost(
+                post.getId(), "stalePassword", "newPassword", "updateName", "updateTitle", "updateContent", now
+        );
+        int updated = postRepository.updatePost(
+                post.getId(), "testPassword", "newPassword", "updateName", "updateTitle", "updateContent", now
+        );
+        int staleDelete = postRepository.softDelete(post.getId(), "testPassword", now);
+
+        // Then
+        assertThat(stale).isZero();
+        assertThat(updated).isEqualTo(1);
+        assertThat(staleDelete).isZero();
+        assertThat(postRepository.findPasswordById(post.getId())).contains("newPassword");
+        assertThat(postRepository.findResponseById(post.getId())).hasValueSatisfying(actual -> assertThat(actual)
+                .hasFieldOrPropertyWithValue("name", "updateName")
+                .hasFieldOrPropertyWithValue("title", "updateTitle")
+                .hasFieldOrPropertyWithValue("content", "updateContent"));
+        assertThat(postRepository.softDelete(post.getId(), "newPassword", now)).isEqualTo(1);
+        assertThat(postRepository.findPasswordById(post.getId())).isEmpty();
+    }
+
+    @DisplayName("보존 기간이 지난 삭제 게시글만 실제로 삭제한다.")
+    @Test
+    void givenExpiredTombstones_whenPurging_thenDeleteOnlyExpired() {
+        // Given
+        Post expired = postRepository.save(Post.of("testName", "testPassword", "expired", "testContent"));
+        Post recent = postRepository.save(Post.of("testName", "testPassword", "recent", "testContent"));
+        Post live = postRepository.save(Post.of("testName", "testPassword", "live", "testContent"));
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now();
+        postRepository.softDelete(expired.getId(), "testPassword", now.minusHours(1));
+        postRepository.softDelete(recent.getId(), "testPassword", now);
+
+        // When
+        List<Long> purgeable = postRepository.findPurgeableIds(now.minusMinutes(10), 100);
+        int actual = postRepository.purge(List.of(expired.getId(), live.getId()));
+        entityManager.clear();
+
+        // Then
+        assertThat(purgeable).containsExactly(expired.getId());
+        assertThat(actual).isEqualTo(1);
+        assertThat(postRepository.findById(live.getId())).isPresent();
+        assertThat(postRepository.findPurgeableIds(now.plusMinutes(1), 100)).containsExactly(recent.getId());
+    }
+}
@@ -0,0 +1,68 @@
+package com.sparta.board.repository;
+
+import com.sparta.board.entity.Post;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+@DisplayName("게시글 ID 시퀀스 보정 테스트")
+class PostSequenceAlignerTest {
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:post-sequence;DB_CLOSE_DELAY=-1", "sa", "")
+    );
+    private final PostSequenceAligner sut = new PostSequenceAligner(jdbcTemplate);
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop all objects");
+    }
+
+    @DisplayName("새로 만든 post_seq 테이블이 기존 게시글 ID 이하이면, 할당할 ID 가 기존 ID 보다 크도록 올린다.")
+    @Test
+    void givenNewSequenceTable_whenStarting_thenMoveAboveExistingIds() {
+        // Given
+        jdbcTemplate.execute("create table post (id bigint primary key)");
+        jdbcTemplate.execute("insert into post values (1), (2), (120)");
+        jdbcTemplate.execute("create table post_seq (next_val bigint)");
+        jdbcTemplate.execute("insert into post_seq values (1)");
+
+        // When
+        sut.afterSingletonsInstantiated();
+
+        // Then
+        long nextVal = jdbcTemplate.queryForObject("select next_val from post_seq", Long.class);
+        assertThat(nextVal - Post.ID_ALLOCATION_SIZE + 1).isGreaterThan(120);
+    }
+
+    @DisplayName("post_seq 가 이미 기존 게시글 ID 보다 크면 그대로 둔다.")
+    @Test
+    void givenAlignedSequenceTable_whenStarting_thenKeepValue() {
+        // Given
+        jdbcTemplate.execute("create table post (id bigint primary key)");
+        jdbcTemplate.execute("insert into post values (1)");
+        jdbcTemplate.execute("create table post_seq (next_val bigint)");
+        jdbcTemplate.execute("insert into post_seq values (1001)");
+
+        // When
+        sut.afterSingletonsInstantiated();
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("select next_val from post_seq", Long.class)).isEqualTo(1001L);
+    }
+
+    @DisplayName("DB 시퀀스를 사용하면(post_seq 테이블이 없으면) 보정하지 않는다.")
+    @Test
+    void givenNativeSequence_whenStarting_thenSkip() {
+        // Given
+        jdbcTemplate.execute("create table post (id bigint primary key)");
+        jdbcTemplate.execute("create sequence post_seq start with 1 increment by 50");
+
+        // When & Then
+        assertThatCode(sut::afterSingletonsInstantiated).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,124 @@
+package com.sparta.board.search;
+
+import com.sparta.board.entity.Post;
+import com.sparta.board.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("게시글 검색 색인 테스트")
+class PostSearchIndexTest {
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final PostSearchIndex sut = new PostSearchIndex(
+            postRepository, mock(EntityManager.class), mock(PlatformTransactionManager.class)
+    );
+
+    @DisplayName("한글, 영문 검색어의 일부만 입력해도 게시글을 찾는다.")
+    @Test
+    void givenPartialQuery_whenSearching_thenReturnMatchedPosts() {
+        // Given
+        sut.index(1L, "익명 게시판 공지", "Spring Boot 로 만든 게시판");
+        sut.index(2L, "자유 글", "오늘 점심 메뉴");
+
+        // When & Then
+        assertThat(sut.search("게시판", 0, 10).postIds()).containsExactly(1L);
+        assertThat(sut.search("spring", 0, 10).postIds()).containsExactly(1L);
+        assertThat(sut.search("점심", 0, 10).postIds()).containsExactly(2L);
+        assertThat(sut.search("없는단어", 0, 10).postIds()).isEmpty();
+    }
+
+    @DisplayName("제목에 검색어가 있는 게시글을 내용에만 있는 게시글보다 앞에 반환한다.")
+    @Test
+    void givenTitleAndContentMatches_whenSearching_thenRankTitleFirst() {
+        // Given
+        sut.index(1L, "일상", "검색 기능을 테스트");
+        sut.index(2L, "검색 기능", "내용");
+        sut.index(3L, "무관한 글", "무관한 내용");
+
+        // When
+        PostSearchIndex.SearchResult actual = sut.search("검색", 0, 10);
+
+        // Then
+        assertThat(actual.postIds()).containsExactly(2L, 1L);
+        assertThat(actual.totalCount()).isEqualTo(2);
+    }
+
+    @DisplayName("검색 결과를 페이지 크기만큼 나눠서 반환한다.")
+    @Test
+    void givenManyMatches_whenSearchingPage_thenReturnPage() {
+        // Given
+        for (long id = 1; id <= 5; id++) {
+            sut.index(id, "title", "content");
+        }
+
+        // When
+        PostSearchIndex.SearchResult actual = sut.search("title", 1, 2);
+
+        // Then
+        assertThat(actual.postIds()).containsExactly(3L, 2L);
+        assertThat(actual.totalCount()).isEqualTo(5);
+    }
+
+    @DisplayName("결과 범위를 넘는 큰 페이지 번호로 검색하면, 빈 페이지와 전체 결과 수를 반환한다.")
+    @Test
+    void givenLargePage_whenSearching_thenReturnEmptyPage() {
+        // Given
+        sut.index(1L, "title", "content");
+
+        // When
+        PostSearchIndex.SearchResult actual = sut.search("title", Integer.MAX_VALUE, 100);
+
+        // Then
+        assertThat(actual.postIds()).isEmpty();
+        assertThat(actual.totalCount()).isEqualTo(1);
+    }
+
+    @DisplayName("수정, 삭제된 게시글은 이전 내용으로 검색되지 않는다.")
+    @Test
+    void givenUpdatedAndRemovedPosts_whenSearching_thenReflectChanges() {
+        // Given
+        sut.index(1L, "before", "content");
+        sut.index(2L, "before", "content");
+
+        // When
+        sut.index(1L, "after", "content");
+        sut.remove(2L);
+
+        // Then
+        assertThat(sut.search("before", 0, 10).postIds()).isEmpty();
+        assertThat(sut.search("after", 0, 10).postIds()).containsExactly(1L);
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("저장된 게시글로 색인을 만든다.")
+    @Test
+    void givenSavedPosts_whenRebuilding_thenIndexAllPosts() {
+        // Given
+        given(postRepository.streamAll()).willReturn(Stream.of(
+                createPost(1L, "첫 번째 글"),
+                createPost(2L, "두 번째 글")
+        ));
+
+        // When
+        sut.rebuild();
+
+        // Then
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(sut.search("번째", 0, 10).postIds()).containsExactlyElementsOf(List.of(2L, 1L));
+    }
+
+    private Post createPost(Long postId, String title) {
+        Post post = Post.of("testName", "testPassword", title, "testContent");
+        ReflectionTestUtils.setField(post, "id", postId);
+        return post;
+    }
+}
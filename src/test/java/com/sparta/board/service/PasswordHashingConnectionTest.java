@@ -0,0 +1,102 @@
+package com.sparta.board.service;
+
+import com.sparta.board.dto.request.PostRequest;
+import com.sparta.board.dto.response.PostResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비밀번호 암호화, 검증 중 커넥션 점유 테스트")
+@ActiveProfiles("test")
+@SpringBootTest
+class PasswordHashingConnectionTest {
+    private final PostService postService;
+    private final ConnectionRecordingPasswordEncoder passwordEncoder;
+
+    PasswordHashingConnectionTest(
+            @Autowired PostService postService,
+            @Autowired ConnectionRecordingPasswordEncoder passwordEncoder) {
+        this.postService = postService;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @DisplayName("게시글 생성, 수정, 삭제 시 PasswordEncoder 가 동작하는 동안 커넥션을 점유하지 않는다.")
+    @Test
+    void givenWriteRequests_whenHashing_thenNoConnectionCheckedOut() {
+        // Given
+        PostRequest request = PostRequest.of("testName", "testPassword", "testTitle", "testContent");
+
+        // When
+        PostResponse created = postService.createPost(request);
+        postService.updatePost(created.id(), PostRequest.of("updateName", "testPassword", "updateTitle", "updateContent"));
+        postService.deletePost(created.id(), "testPassword");
+
+        // Then
+        assertThat(passwordEncoder.activeConnections())
+                .hasSizeGreaterThanOrEqualTo(3)
+                .containsOnly(0);
+    }
+
+    @TestConfiguration
+    static class ConnectionRecordingConfig {
+        @Bean
+        @Primary
+        ConnectionRecordingPasswordEncoder connectionRecordingPasswordEncoder(ObjectProvider<DataSource> dataSource) {
+            return new ConnectionRecordingPasswordEncoder(dataSource);
+        }
+    }
+
+    /**
+     * 암호화, 검증 시점의 커넥션 풀 사용 중인 커넥션 수를 기록
+     */
+    static class ConnectionRecordingPasswordEncoder implements PasswordEncoder {
+        private final PasswordEncoder delegate = new BCryptPasswordEncoder(4);
+        private final ObjectProvider<DataSource> dataSource;
+        private final List<Integer> activeConnections = new CopyOnWriteArrayList<>();
+
+        ConnectionRecordingPasswordEncoder(ObjectProvider<DataSource> dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            record();
+            return delegate.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            record();
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+
+        List<Integer> activeConnections() {
+            return activeConnections;
+        }
+
+        private void record() {
+            try {
+                HikariDataSource hikariDataSource = dataSource.getObject().unwrap(HikariDataSource.class);
+                activeConnections.add(hikariDataSource.getHikariPoolMXBean().getActiveConnections());
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
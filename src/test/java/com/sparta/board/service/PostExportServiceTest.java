@@ -0,0 +1,96 @@
+package com.sparta.board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sparta.board.dto.response.PostResponse;
+import com.sparta.board.entity.Post;
+import com.sparta.board.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@DisplayName("게시글 내보내기 서비스 테스트")
+@ExtendWith(MockitoExtension.class)
+class PostExportServiceTest {
+
+    @InjectMocks
+    private PostExportService sut;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @DisplayName("게시글을 한 줄에 하나씩 PostResponse 형식으로 출력하고 영속성 컨텍스트에서 분리한다.")
+    @Test
+    void givenPosts_whenExporting_thenWriteNdjson() throws Exception {
+        // Given
+        Post first = createPost(1L, "testTitle1");
+        Post second = createPost(2L, "testTitle2");
+        given(postRepository.streamAll()).willReturn(Stream.of(first, second));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        long count = sut.exportPosts(outputStream);
+
+        // Then
+        // 다시 파싱하면 앞뒤 공백이 무시되므로 출력한 줄을 그대로 비교
+        String actual = outputStream.toString(StandardCharsets.UTF_8);
+        assertThat(count).isEqualTo(2);
+        assertThat(actual).isEqualTo(
+                objectMapper.writeValueAsString(PostResponse.from(first)) + "\n"
+                        + objectMapper.writeValueAsString(PostResponse.from(second)) + "\n"
+        );
+        assertThat(actual.split("\n")).allSatisfy(line -> assertThat(line).startsWith("{\"id\":"));
+        assertThat(actual).contains("\"createdDateTime\":\"2023-11-01 12:00:00\"");
+        then(entityManager).should().detach(first);
+        then(entityManager).should().detach(second);
+    }
+
+    @DisplayName("게시글마다 출력 스트림을 flush 하지 않고 모아서 flush 한다.")
+    @Test
+    void givenPosts_whenExporting_thenNotFlushEveryPost() throws Exception {
+        // Given
+        given(postRepository.streamAll()).willReturn(Stream.of(
+                createPost(1L, "testTitle1"), createPost(2L, "testTitle2"), createPost(3L, "testTitle3")
+        ));
+        AtomicInteger flushes = new AtomicInteger();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+
+        // When
+        sut.exportPosts(outputStream);
+
+        // Then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8).split("\n")).hasSize(3);
+        assertThat(flushes.get()).isLessThanOrEqualTo(1);
+    }
+
+    private Post createPost(Long postId, String title) {
+        Post post = Post.of("testName", "testPassword", title, "testContent");
+        ReflectionTestUtils.setField(post, "id", postId);
+        ReflectionTestUtils.setField(post, "createdDateTime", LocalDateTime.of(2023, 11, 1, 12, 0, 0));
+        return post;
+    }
+}
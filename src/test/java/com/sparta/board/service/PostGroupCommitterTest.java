@@ -0,0 +1,186 @@
+package com.sparta.board.service;
+
+import com.sparta.board.config.PostGroupCommitProperties;
+import com.sparta.board.dto.request.PostRequest;
+import com.sparta.board.entity.Post;
+import com.sparta.board.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("게시글 작성 그룹 커밋 테스트")
+class PostGroupCommitterTest {
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final AtomicLong sequence = new AtomicLong();
+    private PostGroupCommitter sut;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (sut != null) {
+            sut.shutdown();
+        }
+    }
+
+    @DisplayName("동시에 들어온 작성 요청을 묶어서 저장하고, 요청마다 자신의 게시글을 반환한다.")
+    @Test
+    void givenConcurrentRequests_whenSaving_thenSaveInBatchesAndReturnOwnPost() throws Exception {
+        // Given
+        sut = createCommitter(true, 10, Duration.ofMillis(50));
+        given(postRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Post> posts = invocation.getArgument(0);
+            posts.forEach(this::assignId);
+            return posts;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+
+        // When
+        List<Future<Post>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            PostRequest request = PostRequest.of("name", "password", "title" + i, "content");
+            futures.add(executor.submit(() -> sut.save(request, "encoded")));
+        }
+        List<Post> actual = new ArrayList<>();
+        for (Future<Post> future : futures) {
+            actual.add(future.get());
+        }
+        executor.shutdown();
+
+        // Then
+        for (int i = 0; i < actual.size(); i++) {
+            assertThat(actual.get(i).getTitle()).isEqualTo("title" + i);
+            assertThat(actual.get(i).getId()).isNotNull();
+        }
+        then(postRepository).should(atMost(9)).saveAll(anyList());
+        then(postRepository).should(never()).save(any(Post.class));
+    }
+
+    @DisplayName("묶음 저장이 실패하면 게시글마다 따로 저장해, 실패한 요청만 예외를 받는다.")
+    @Test
+    void givenFailedBatch_whenFlushing_thenFallbackToIndividualSaves() {
+        // Given
+        sut = createCommitter(false, 10, Duration.ofMillis(5));
+        given(postRepository.saveAll(anyList())).willThrow(new DataIntegrityViolationException("batch"));
+        given(postRepository.save(any(Post.class))).willAnswer(invocation -> {
+            Post post = invocation.getArgument(0);
+            if ("invalid".equals(post.getTitle())) {
+                throw new DataIntegrityViolationException("invalid");
+            }
+            return assignId(post);
+        });
+        PostGroupCommitter.PendingPost valid = pending("valid");
+        PostGroupCommitter.PendingPost invalid = pending("invalid");
+
+        // When
+        sut.flush(List.of(valid, invalid));
+
+        // Then
+        assertThat(valid.result().join().getId()).isNotNull();
+        assertThat(invalid.result()).isCompletedExceptionally();
+        then(postRepository).should(times(2)).save(any(Post.class));
+    }
+
+    @DisplayName("그룹 커밋을 사용하지 않으면 저장 요청을 거부한다.")
+    @Test
+    void givenDisabled_whenSaving_thenReject() {
+        // Given
+        sut = createCommitter(false, 10, Duration.ofMillis(5));
+
+        // When & Then
+        assertThatThrownBy(() -> sut.save(PostRequest.of("name", "password", "title", "content"), "encoded"))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @DisplayName("저장이 maxWait 안에 끝나지 않으면, 요청 스레드는 기다리지 않고 거부된다.")
+    @Test
+    void givenStalledFlush_whenSaving_thenRejectAfterMaxWait() throws Exception {
+        // Given
+        sut = createCommitter(true, 1, Duration.ofMillis(1), Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        given(postRepository.saveAll(anyList())).willAnswer(invocation -> {
+            release.await();
+            return invocation.getArgument(0);
+        });
+
+        // When & Then
+        try {
+            assertThatThrownBy(() -> sut.save(PostRequest.of("name", "password", "title", "content"), "encoded"))
+                    .isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @DisplayName("종료 후 대기열에 남은 저장 요청은 완료되지 않은 채 남지 않고 실패로 완료된다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenQueuedAfterFlusherStopped_whenShutdown_thenCompleteExceptionally() throws Exception {
+        // Given
+        sut = createCommitter(true, 10, Duration.ofMillis(5));
+        sut.shutdown();
+        PostGroupCommitter.PendingPost pending = pending("title");
+        BlockingQueue<PostGroupCommitter.PendingPost> queue =
+                (BlockingQueue<PostGroupCommitter.PendingPost>) ReflectionTestUtils.getField(sut, "queue");
+        queue.add(pending);
+
+        // When
+        sut.shutdown();
+
+        // Then
+        assertThat(pending.result()).isCompletedExceptionally();
+        then(postRepository).should(never()).saveAll(anyList());
+    }
+
+    private PostGroupCommitter createCommitter(boolean enabled, int maxBatchSize, Duration maxDelay) {
+        return createCommitter(enabled, maxBatchSize, maxDelay, Duration.ofSeconds(5));
+    }
+
+    private PostGroupCommitter createCommitter(boolean enabled, int maxBatchSize, Duration maxDelay, Duration maxWait) {
+        return new PostGroupCommitter(
+                postRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new PostGroupCommitProperties(enabled, maxBatchSize, maxDelay, 100, maxWait),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    private PostGroupCommitter.PendingPost pending(String title) {
+        return new PostGroupCommitter.PendingPost(
+                PostRequest.of("name", "password", title, "content"),
+                "encoded",
+                new CompletableFuture<>()
+        );
+    }
+
+    private Post assignId(Post post) {
+        ReflectionTestUtils.setField(post, "id", sequence.incrementAndGet());
+        return post;
+    }
+}
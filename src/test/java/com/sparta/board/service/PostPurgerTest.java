@@ -0,0 +1,86 @@
+package com.sparta.board.service;
+
+import com.sparta.board.config.PostPurgeProperties;
+import com.sparta.board.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("삭제 게시글 정리 테스트")
+class PostPurgerTest {
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final PostPurger sut = new PostPurger(
+            postRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            new PostPurgeProperties(false, Duration.ofMinutes(10), Duration.ofMinutes(1), 2, 3, Duration.ZERO),
+            new SimpleMeterRegistry()
+    );
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+    @DisplayName("삭제 게시글을 배치 크기만큼 나누어 삭제하고, 남은 게시글이 배치 크기보다 적으면 멈춘다.")
+    @Test
+    void givenTombstones_whenPurging_thenDeleteInBatches() throws InterruptedException {
+        // Given
+        given(postRepository.findPurgeableIds(any(LocalDateTime.class), eq(2)))
+                .willReturn(List.of(1L, 2L), List.of(3L));
+        given(postRepository.purge(anyList())).willAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // When
+        int actual = sut.purge();
+
+        // Then
+        assertThat(actual).isEqualTo(3);
+        then(postRepository).should().purge(List.of(1L, 2L));
+        then(postRepository).should().purge(List.of(3L));
+    }
+
+    @DisplayName("한 주기에 최대 배치 횟수까지만 삭제한다.")
+    @Test
+    void givenManyTombstones_whenPurging_thenStopAtMaxBatches() throws InterruptedException {
+        // Given
+        given(postRepository.findPurgeableIds(any(LocalDateTime.class), eq(2))).willReturn(List.of(1L, 2L));
+        given(postRepository.purge(anyList())).willReturn(2);
+
+        // When
+        int actual = sut.purge();
+
+        // Then
+        assertThat(actual).isEqualTo(6);
+        then(postRepository).should(times(3)).purge(anyList());
+    }
+
+    @DisplayName("삭제할 게시글이 없으면 삭제하지 않는다.")
+    @Test
+    void givenNoTombstones_whenPurging_thenSkip() throws InterruptedException {
+        // Given
+        given(postRepository.findPurgeableIds(any(LocalDateTime.class), eq(2))).willReturn(List.of());
+
+        // When
+        int actual = sut.purge();
+
+        // Then
+        assertThat(actual).isZero();
+        then(postRepository).should(never()).purge(anyList());
+    }
+}
@@ -1,23 +1,50 @@
 package com.sparta.board.service;
 
+import com.sparta.board.cache.PostBody;
+import com.sparta.board.cache.PostBodyCache;
+import com.sparta.board.cache.PostListSnapshot;
+import com.sparta.board.cache.VerifiedPasswordCache;
+import com.sparta.board.config.PasswordProperties;
+import com.sparta.board.config.PostBodyCacheProperties;
+import com.sparta.board.config.PostListProperties;
+import com.sparta.board.config.PostViewProperties;
+import com.sparta.board.dto.request.PostCursor;
 import com.sparta.board.dto.request.PostRequest;
+import com.sparta.board.dto.response.PostPageResponse;
 import com.sparta.board.dto.response.PostResponse;
+import com.sparta.board.dto.response.PostSearchResponse;
+import com.sparta.board.dto.response.PostSummaryResponse;
 import com.sparta.board.entity.Post;
+import com.sparta.board.exception.InvalidCursorException;
 import com.sparta.board.exception.InvalidPasswordException;
+import com.sparta.board.feed.PostEvent;
+import com.sparta.board.feed.PostFeed;
 import com.sparta.board.repository.PostRepository;
+import com.sparta.board.search.PostSearchIndex;
+import com.sparta.board.trending.PostTrending;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -26,8 +53,13 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.groups.Tuple.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @DisplayName("게시글 API 서비스 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -37,9 +69,53 @@ class PostServiceTest {
     private PostService sut;
     @Mock
     private PostRepository postRepository;
+    @Spy
+    private PostListProperties postListProperties = new PostListProperties(100);
 
     @Spy
     private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final PasswordProperties passwordProperties = new PasswordProperties(
+            new PasswordProperties.Hashing(1, 10),
+            new PasswordProperties.Strength(Duration.ofMillis(50), 4, 10, 10),
+            new PasswordProperties.VerifiedCache(true, 100, Duration.ofMinutes(1))
+    );
+    @Spy
+    private PasswordHasher passwordHasher = new PasswordHasher(
+            passwordEncoder, passwordProperties, new SimpleMeterRegistry()
+    );
+    @Spy
+    private VerifiedPasswordCache verifiedPasswordCache = new VerifiedPasswordCache(passwordProperties);
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    @Spy
+    private PostBodyCache postBodyCache = new PostBodyCache(
+            new PostBodyCacheProperties(true, 100, Duration.ofMinutes(10), 2048),
+            Jackson2ObjectMapperBuilder.json().build(),
+            new SimpleMeterRegistry()
+    );
+    @Mock
+    private PostListSnapshot postListSnapshot;
+    @Mock
+    private PostSearchIndex postSearchIndex;
+    // 캐시된 게시글의 조회수 기준점을 함께 확인하도록 실제 카운터 사용 (DB 반영은 하지 않는다.)
+    @Spy
+    private PostViewCounter postViewCounter = new PostViewCounter(
+            mock(JdbcTemplate.class),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            postBodyCache,
+            new PostViewProperties(Duration.ofHours(1))
+    );
+    @Mock
+    private PostGroupCommitter postGroupCommitter;
+    @Mock
+    private PostFeed postFeed;
+    @Mock
+    private PostTrending postTrending;
+
+    @AfterEach
+    void tearDown() {
+        postViewCounter.shutdown();
+    }
 
     @DisplayName("게시글 정보를 입력하면 게시글을 생성한다.")
     @Test
@@ -50,10 +126,56 @@ class PostServiceTest {
         given(postRepository.save(any(Post.class))).willReturn(post);
 
         // When
-        sut.createPost(request);
+        PostResponse actual = sut.createPost(request);
 
         // Then
+        then(passwordHasher).should().encode(request.password());
         then(postRepository).should().save(any(Post.class));
+        assertThat(actual).isEqualTo(PostResponse.from(post));
+        then(postListSnapshot).should().onCreated(PostSummaryResponse.from(post, 100));
+        then(postFeed).should().publish(PostEvent.Type.CREATED, post.getId(), PostSummaryResponse.from(post, 100));
+        then(postSearchIndex).should().index(post.getId(), "createTitle", "crateContent");
+    }
+
+    @DisplayName("그룹 커밋을 사용하면, 게시글을 그룹 커밋으로 저장한다.")
+    @Test
+    void givenGroupCommitEnabled_whenSavingPost_thenSaveThroughGroupCommit() {
+        // Given
+        PostRequest request = PostRequest.of("createName", "testPassword", "createTitle", "crateContent");
+        Post post = request.toEntity(passwordEncoder);
+        given(postGroupCommitter.isEnabled()).willReturn(true);
+        given(postGroupCommitter.save(any(PostRequest.class), any(String.class))).willReturn(post);
+
+        // When
+        PostResponse actual = sut.createPost(request);
+
+        // Then
+        assertThat(actual).isEqualTo(PostResponse.from(post));
+        then(postRepository).shouldHaveNoInteractions();
+        then(postListSnapshot).should().onCreated(PostSummaryResponse.from(post, 100));
+    }
+
+    @DisplayName("여러 게시글 정보를 입력하면, 한 번에 저장하고 입력 순서대로 반환한다.")
+    @Test
+    void givenPostInfos_whenSavingPosts_thenReturnSavedPostsInOrder() {
+        // Given
+        List<PostRequest> requests = List.of(
+                PostRequest.of("createName1", "testPassword1", "createTitle1", "createContent1"),
+                PostRequest.of("createName2", "testPassword2", "createTitle2", "createContent2")
+        );
+        given(postRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<PostResponse> actual = sut.createPosts(requests);
+
+        // Then
+        assertThat(actual).extracting("name", "title")
+                .containsExactly(
+                        tuple("createName1", "createTitle1"),
+                        tuple("createName2", "createTitle2")
+                );
+        then(passwordHasher).should().encodeAll(List.of("testPassword1", "testPassword2"));
+        then(postListSnapshot).should(times(2)).onCreated(any(PostSummaryResponse.class));
     }
 
     @DisplayName("게시글이 0개일 때, 목록 조회")
@@ -62,57 +184,250 @@ class PostServiceTest {
         // Given
 
         // When
-        List<PostResponse> response = sut.getPosts();
+        PostPageResponse response = sut.getPosts(null, 20);
 
         // Then
-        assertThat(response).isEmpty();
+        assertThat(response.posts()).isEmpty();
+        assertThat(response.nextCursor()).isNull();
     }
 
     @DisplayName("게시글이 3개일 때, 목록 조회 시 게시글 반환")
     @Test
     void givenNothing_whenGetPosts_thenReturnPosts() {
         // Given
-        ArrayList<Post> posts = new ArrayList<>();
-        posts.add(new Post("testName1", "","testTitle1", "testContent1"));
-        posts.add(new Post("testName2", "","testTitle2", "testContent2"));
-        posts.add(new Post("testName3", "","testTitle3", "testContent3"));
+        ArrayList<PostSummaryResponse> posts = new ArrayList<>();
+        posts.add(PostSummaryResponse.from(new Post("testName1", "","testTitle1", "testContent1"), 100));
+        posts.add(PostSummaryResponse.from(new Post("testName2", "","testTitle2", "testContent2"), 100));
+        posts.add(PostSummaryResponse.from(new Post("testName3", "","testTitle3", "testContent3"), 100));
 
-        given(postRepository.findAll(Sort.by(Sort.Direction.DESC, "createdDateTime"))).willReturn(posts);
+        given(postRepository.findFirstPage(100, PageRequest.of(0, 21))).willReturn(posts);
         // When
-        List<PostResponse> result = sut.getPosts();
+        PostPageResponse result = sut.getPosts(null, 20);
 
         // Then
-        assertThat(result).hasSize(3);
-        assertThat(result)
-                .extracting("name","title","content")
+        assertThat(result.posts()).hasSize(3);
+        assertThat(result.posts())
+                .extracting("name","title","excerpt")
                 .containsExactly(
                         tuple("testName1","testTitle1","testContent1"),
                         tuple("testName2","testTitle2","testContent2"),
                         tuple("testName3","testTitle3","testContent3")
                 );
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @DisplayName("첫 페이지 스냅샷이 있으면, DB 조회 없이 스냅샷을 반환한다.")
+    @Test
+    void givenFirstPageSnapshot_whenGetPosts_thenReturnSnapshot() {
+        // Given
+        PostPageResponse snapshot = PostPageResponse.of(List.of(PostSummaryResponse.from(createPost(1L), 100)), null);
+        given(postListSnapshot.getFirstPage(20)).willReturn(snapshot);
+
+        // When
+        PostPageResponse result = sut.getPosts(null, 20);
+
+        // Then
+        assertThat(result).isEqualTo(snapshot);
+        then(postRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("조회 개수보다 게시글이 많으면, 마지막 게시글 기준 다음 커서를 반환")
+    @Test
+    void givenMorePostsThanLimit_whenGetPosts_thenReturnNextCursor() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2023, 11, 1, 12, 0, 0);
+        List<PostSummaryResponse> posts = List.of(
+                createSummary(3L, now),
+                createSummary(2L, now.minusMinutes(1)),
+                createSummary(1L, now.minusMinutes(2))
+        );
+        given(postRepository.findFirstPage(100, PageRequest.of(0, 3))).willReturn(posts);
+
+        // When
+        PostPageResponse result = sut.getPosts(null, 2);
+
+        // Then
+        assertThat(result.posts()).extracting("id").containsExactly(3L, 2L);
+        assertThat(PostCursor.decode(result.nextCursor()))
+                .isEqualTo(new PostCursor(now.minusMinutes(1), 2L));
+    }
+
+    @DisplayName("커서를 입력하면, 커서 이후의 게시글을 조회한다.")
+    @Test
+    void givenCursor_whenGetPosts_thenReturnNextPage() {
+        // Given
+        LocalDateTime createdDateTime = LocalDateTime.of(2023, 11, 1, 12, 0, 0);
+        String cursor = new PostCursor(createdDateTime, 2L).encode();
+        given(postRepository.findNextPage(createdDateTime, 2L, 100, PageRequest.of(0, 3)))
+                .willReturn(List.of(createSummary(1L, createdDateTime.minusMinutes(1))));
+
+        // When
+        PostPageResponse result = sut.getPosts(cursor, 2);
+
+        // Then
+        assertThat(result.posts()).extracting("id").containsExactly(1L);
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @DisplayName("잘못된 커서를 입력하면, 예외 발생")
+    @Test
+    void givenInvalidCursor_whenGetPosts_thenThrowException() {
+        // Given
+        // When & Then
+        Assertions.assertThatThrownBy(() -> sut.getPosts("invalid-cursor", 20))
+                .isInstanceOf(InvalidCursorException.class);
     }
 
-    @DisplayName("게시글 ID로 조회하면 해당하는 게시글 반환")
+    @DisplayName("게시글 ID로 조회하면 해당하는 게시글 응답 본문 반환")
     @Test
-    void givenPostId_whenGetPost_thenReturnPost() {
+    void givenPostId_whenGetPostBody_thenReturnPostBody() {
         // Given
         Long postId = 1L;
         Post post = createPost(postId);
         given(postRepository.findById(postId)).willReturn(Optional.of(post));
 
         // When
-        PostResponse actual = sut.getPost(postId);
+        PostBody actual = sut.getPostBody(postId);
 
         // Then
-        assertThat(actual).isEqualTo(PostResponse.from(post));
+        assertThat(new String(actual.json(), StandardCharsets.UTF_8))
+                .contains("\"id\":1", "\"name\":\"testName\"", "\"title\":\"testTitle\"");
+        assertThat(actual.modifiedDateTime()).isEqualTo(PostResponse.from(post).lastModifiedDateTime());
+    }
+
+    @DisplayName("게시글 본문의 조회수는 DB 에 반영된 조회수이며, 아직 반영되지 않은 조회수는 포함하지 않는다.")
+    @Test
+    void givenPendingViews_whenGetPostBody_thenReturnPersistedViews() {
+        // Given
+        Long postId = 1L;
+        Post post = createPost(postId);
+        ReflectionTestUtils.setField(post, "views", 10L);
+        given(postRepository.findById(postId)).willReturn(Optional.of(post));
+        postViewCounter.increment(postId);
+        postViewCounter.increment(postId);
+        postViewCounter.increment(postId);
+
+        // When
+        PostBody actual = sut.getPostBody(postId);
+
+        // Then
+        assertThat(new String(actual.json(), StandardCharsets.UTF_8)).contains("\"views\":10");
+    }
+
+    @DisplayName("조회수를 DB 에 반영하면, 캐시된 게시글을 다시 조회하지 않고 반영된 조회수로 본문을 다시 만든다.")
+    @Test
+    void givenFlushedViews_whenGetCachedPostBody_thenKeepCacheAndCountViews() {
+        // Given
+        Long postId = 1L;
+        Post post = createPost(postId);
+        ReflectionTestUtils.setField(post, "views", 10L);
+        given(postRepository.findById(postId)).willReturn(Optional.of(post));
+        sut.getPostBody(postId);
+        sut.recordView(postId);
+        sut.recordView(postId);
+        postViewCounter.flush();
+        sut.recordView(postId);
+
+        // When
+        PostBody actual = sut.getPostBody(postId);
+
+        // Then
+        // 직전 조회는 다음 반영 이후 포함
+        assertThat(new String(actual.json(), StandardCharsets.UTF_8)).contains("\"views\":12");
+        then(postRepository).should(times(1)).findById(postId);
+        then(postBodyCache).should(never()).evict(postId);
+    }
+
+    @DisplayName("같은 게시글 본문을 다시 조회하면, 직렬화하지 않고 캐시된 바이트와 수정 시각을 반환하고 조회수는 증가시키지 않는다.")
+    @Test
+    void givenCachedBody_whenGetPostBody_thenReturnCachedBytesWithoutIncrementingViews() {
+        // Given
+        Long postId = 1L;
+        Post post = createPost(postId);
+        LocalDateTime modifiedDateTime = LocalDateTime.of(2023, 11, 1, 12, 0);
+        ReflectionTestUtils.setField(post, "modifiedDateTime", modifiedDateTime);
+        given(postRepository.findById(postId)).willReturn(Optional.of(post));
+        PostBody first = sut.getPostBody(postId);
+
+        // When
+        PostBody actual = sut.getPostBody(postId);
+
+        // Then
+        assertThat(actual).isSameAs(first);
+        assertThat(actual.modifiedDateTime()).isEqualTo(modifiedDateTime);
+        assertThat(new String(actual.json(), StandardCharsets.UTF_8)).contains("\"title\":\"testTitle\"");
+        then(postRepository).should(times(1)).findById(postId);
+        then(postViewCounter).should(never()).increment(postId);
+        then(postTrending).should(never()).record(postId);
+    }
+
+    @DisplayName("본문을 응답한 조회를 기록하면, 조회수와 최근 조회 빈도를 증가시킨다.")
+    @Test
+    void givenPostId_whenRecordView_thenIncrementViewsAndTrending() {
+        // Given
+        Long postId = 1L;
+
+        // When
+        sut.recordView(postId);
+
+        // Then
+        then(postViewCounter).should(times(1)).increment(postId);
+        then(postTrending).should(times(1)).record(postId);
+        assertThat(postViewCounter.pending(postId)).isEqualTo(1L);
+    }
+
+    @DisplayName("게시글을 수정하면, 캐시된 게시글을 무효화해 수정된 게시글을 조회한다.")
+    @Test
+    void givenCachedPost_whenUpdatingPost_thenGetUpdatedPost() {
+        // Given
+        Long postId = 1L;
+        Post post = createPost(postId);
+        PostRequest request = PostRequest.of("updateName", "testPassword", "updateTitle", "updateContent");
+        Post updatedPost = createUpdatedPost(post, request);
+        given(postRepository.findById(postId)).willReturn(Optional.of(post), Optional.of(updatedPost));
+        givenUpdatable(post, updatedPost);
+        sut.getPostBody(postId);
+        sut.recordView(postId);
+
+        // When
+        PostResponse updated = sut.updatePost(postId, request);
+        PostBody actual = sut.getPostBody(postId);
+
+        // Then
+        assertThat(new String(actual.json(), StandardCharsets.UTF_8))
+                .contains("\"name\":\"updateName\"", "\"title\":\"updateTitle\"");
+        then(postBodyCache).should().evict(postId);
+        assertThat(updated).isEqualTo(PostResponse.from(updatedPost).withViews(1));
+        then(postListSnapshot).should().onUpdated(PostSummaryResponse.from(updatedPost, 100));
+        then(postFeed).should().publish(PostEvent.Type.UPDATED, postId, PostSummaryResponse.from(updatedPost, 100));
+    }
+
+    @DisplayName("게시글을 수정하면, 아직 DB 에 반영하지 않은 조회수를 더한 게시글을 반환한다.")
+    @Test
+    void givenPendingViews_whenUpdatingPost_thenReturnPersistedAndPendingViews() {
+        // Given
+        Long postId = 1L;
+        Post post = createPost(postId);
+        PostRequest request = PostRequest.of("updateName", "testPassword", "updateTitle", "updateContent");
+        Post updatedPost = createUpdatedPost(post, request);
+        ReflectionTestUtils.setField(updatedPost, "views", 10L);
+        givenUpdatable(post, updatedPost);
+        postViewCounter.increment(postId);
+        postViewCounter.increment(postId);
+
+        // When
+        PostResponse actual = sut.updatePost(postId, request);
+
+        // Then
+        assertThat(actual.views()).isEqualTo(12);
     }
 
     @DisplayName("없는 게시글 ID로 조회하면 예외 발생")
     @Test
-    void givenNothingAtPostId_whenGetPost_thenThrowException() {
+    void givenNothingAtPostId_whenGetPostBody_thenThrowException() {
         // Given
         // When & Then
-        Assertions.assertThatThrownBy(() -> sut.getPost(1L))
+        Assertions.assertThatThrownBy(() -> sut.getPostBody(1L))
                 .isInstanceOf(NoSuchElementException.class);
     }
 
@@ -124,7 +439,7 @@ class PostServiceTest {
         Post post = createPost(postId);
         PostRequest request = PostRequest.of("updateName", "testPassword", "updateTitle", "testContent");
 
-        given(postRepository.findById(postId)).willReturn(Optional.of(post));
+        givenUpdatable(post, createUpdatedPost(post, request));
 
         //When
         PostResponse actual = sut.updatePost(postId, request);
@@ -133,6 +448,66 @@ class PostServiceTest {
         assertThat(actual)
                 .hasFieldOrPropertyWithValue("name", request.name())
                 .hasFieldOrPropertyWithValue("title", request.title());
+        then(postRepository).should(never()).findById(postId);
+    }
+
+    @DisplayName("이전 작업 비용으로 저장된 비밀번호로 수정에 성공하면, 현재 작업 비용으로 다시 암호화한다.")
+    @Test
+    void givenOutdatedPasswordHash_whenUpdatingPost_thenRehashPassword() {
+        // Given
+        Long postId = 1L;
+        Post post = createPost(postId);
+        String outdatedPassword = new BCryptPasswordEncoder(4).encode("testPassword");
+        ReflectionTestUtils.setField(post, "password", outdatedPassword);
+        PostRequest request = PostRequest.of("updateName", "testPassword", "updateTitle", "testContent");
+
+        givenUpdatable(post, createUpdatedPost(post, request));
+
+        //When
+        sut.updatePost(postId, request);
+
+        //Then
+        ArgumentCaptor<String> newPassword = ArgumentCaptor.forClass(String.class);
+        then(postRepository).should().updatePost(
+                eq(postId), eq(outdatedPassword), newPassword.capture(), any(), any(), any(), any()
+        );
+        assertThat(newPassword.getValue()).isNotEqualTo(outdatedPassword);
+        assertThat(passwordEncoder.upgradeEncoding(newPassword.getValue())).isFalse();
+        assertThat(passwordEncoder.matches("testPassword", newPassword.getValue())).isTrue();
+    }
+
+    @DisplayName("같은 비밀번호로 연속 수정하면, 두 번째 요청은 bcrypt 검증을 생략한다.")
+    @Test
+    void givenVerifiedPassword_whenUpdatingPostAgain_thenSkipPasswordMatching() {
+        // Given
+        Long postId = 1L;
+        Post post = createPost(postId);
+        PostRequest request = PostRequest.of("updateName", "testPassword", "updateTitle", "testContent");
+
+        givenUpdatable(post, createUpdatedPost(post, request));
+        sut.updatePost(postId, request);
+
+        //When
+        sut.updatePost(postId, request);
+
+        //Then
+        then(passwordHasher).should(times(1)).matches(any(), any());
+    }
+
+    @DisplayName("검증에 성공한 이후에도 다른 비밀번호로 수정하면, 예외를 발생한다.")
+    @Test
+    void givenVerifiedPassword_whenUpdatingPostWithInvalidPassword_thenThrowException() {
+        // Given
+        Long postId = 1L;
+        Post post = createPost(postId);
+        PostRequest verified = PostRequest.of("updateName", "testPassword", "updateTitle", "testContent");
+        givenUpdatable(post, createUpdatedPost(post, verified));
+        sut.updatePost(postId, verified);
+        PostRequest request = PostRequest.of("updateName", "invalidPassword", "updateTitle", "testContent");
+
+        //When & Then
+        Assertions.assertThatThrownBy(() -> sut.updatePost(postId, request))
+                .isInstanceOf(InvalidPasswordException.class);
     }
 
     @DisplayName("수정할 게시글의 비밀번호를 다르게 입력하면, 예외를 발생한다.")
@@ -144,11 +519,29 @@ class PostServiceTest {
         ReflectionTestUtils.setField(post, "id", postId);
         PostRequest request = PostRequest.of("updateName", "invalidPassword", "updateTitle", "testContent");
 
-        given(postRepository.findById(postId)).willReturn(Optional.of(post));
+        given(postRepository.findPasswordById(postId)).willReturn(Optional.of(post.getPassword()));
 
         //When & Then
         Assertions.assertThatThrownBy(() -> sut.updatePost(postId, request))
                 .isInstanceOf(InvalidPasswordException.class);
+        then(postRepository).should(never()).updatePost(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @DisplayName("검증 이후 수정 전에 비밀번호가 바뀌어 수정된 게시글이 없으면, 예외를 발생한다.")
+    @Test
+    void givenPasswordChangedAfterVerification_whenUpdatingPost_thenThrowException() {
+        // Given
+        Long postId = 1L;
+        Post post = createPost(postId);
+        PostRequest request = PostRequest.of("updateName", "testPassword", "updateTitle", "testContent");
+
+        given(postRepository.findPasswordById(postId)).willReturn(Optional.of(post.getPassword()));
+        given(postRepository.updatePost(eq(postId), any(), any(), any(), any(), any(), any())).willReturn(0);
+
+        //When & Then
+        Assertions.assertThatThrownBy(() -> sut.updatePost(postId, request))
+                .isInstanceOf(InvalidPasswordException.class);
+        then(postListSnapshot).shouldHaveNoInteractions();
     }
 
     @DisplayName("수정 요청 시 없는 게시글의 ID를 입력하면, 예외를 발생한다.")
@@ -162,6 +555,52 @@ class PostServiceTest {
                 .isInstanceOf(NoSuchElementException.class);
     }
 
+    @DisplayName("인기 게시글을 조회하면, 미리 만들어 둔 순위 목록을 반환한다.")
+    @Test
+    void givenTrendingPosts_whenGetTrendingPosts_thenReturnTopPosts() {
+        // Given
+        List<PostResponse> top = List.of(PostResponse.from(createPost(2L)), PostResponse.from(createPost(1L)));
+        given(postTrending.top(2)).willReturn(top);
+
+        // When
+        List<PostResponse> actual = sut.getTrendingPosts(2);
+
+        // Then
+        assertThat(actual).isEqualTo(top);
+        then(postRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("검색어를 입력하면, 검색 점수 순서대로 게시글을 반환한다.")
+    @Test
+    void givenQuery_whenSearchingPosts_thenReturnPostsInScoreOrder() {
+        // Given
+        given(postSearchIndex.search("testTitle", 0, 20))
+                .willReturn(new PostSearchIndex.SearchResult(List.of(3L, 1L, 2L), 3));
+        given(postRepository.findAllById(List.of(3L, 1L, 2L)))
+                .willReturn(List.of(createPost(1L), createPost(2L)));
+
+        // When
+        PostSearchResponse actual = sut.searchPosts("testTitle", 0, 20);
+
+        // Then
+        assertThat(actual.posts()).extracting("id").containsExactly(1L, 2L);
+        assertThat(actual.totalCount()).isEqualTo(3);
+    }
+
+    @DisplayName("검색 결과가 없으면, 게시글을 조회하지 않는다.")
+    @Test
+    void givenNoMatches_whenSearchingPosts_thenReturnEmptyPage() {
+        // Given
+        given(postSearchIndex.search("none", 0, 20)).willReturn(new PostSearchIndex.SearchResult(List.of(), 0));
+
+        // When
+        PostSearchResponse actual = sut.searchPosts("none", 0, 20);
+
+        // Then
+        assertThat(actual.posts()).isEmpty();
+        then(postRepository).shouldHaveNoInteractions();
+    }
+
     @DisplayName("삭제할 게시글의 ID와 비밀번호를 입력하면, 게시글을 삭제한다.")
     @Test
     void givenPostIdAndPassword_whenDeletingPost_thenDeletePost() {
@@ -170,12 +609,22 @@ class PostServiceTest {
         Post post = createPost(postId);
         String password = "testPassword";
 
-        given(postRepository.findById(postId)).willReturn(Optional.of(post));
+        given(postRepository.findPasswordById(postId)).willReturn(Optional.of(post.getPassword()));
+        given(postRepository.softDelete(eq(postId), eq(post.getPassword()), any(LocalDateTime.class))).willReturn(1);
 
         //When
         sut.deletePost(postId, password);
         //Then
-        then(postRepository).should().delete(post);
+        then(postRepository).should().softDelete(eq(postId), eq(post.getPassword()), any(LocalDateTime.class));
+        then(postRepository).should(never()).findById(postId);
+        then(postRepository).should(never()).delete(any(Post.class));
+        then(postListSnapshot).should().onDeleted(postId);
+        then(postSearchIndex).should().remove(postId);
+        then(postViewCounter).should().remove(postId);
+        then(verifiedPasswordCache).should().evict(postId);
+        then(postBodyCache).should().evict(postId);
+        then(postFeed).should().publish(PostEvent.Type.DELETED, postId, null);
+        then(postTrending).should().remove(postId);
     }
 
     @DisplayName("삭제할 게시글의 비밀번호를 다르게 입력하면, 예외를 발생한다.")
@@ -187,13 +636,31 @@ class PostServiceTest {
         ReflectionTestUtils.setField(post, "id", postId);
         String password = "invalidPassword";
 
-        given(postRepository.findById(postId)).willReturn(Optional.of(post));
+        given(postRepository.findPasswordById(postId)).willReturn(Optional.of(post.getPassword()));
 
         //When & Then
         Assertions.assertThatThrownBy(() -> sut.deletePost(postId, password))
                 .isInstanceOf(InvalidPasswordException.class);
     }
 
+    @DisplayName("삭제 요청 사이에 게시글이 삭제되어 삭제된 게시글이 없으면, 예외를 발생한다.")
+    @Test
+    void givenPostDeletedAfterVerification_whenDeletingPost_thenThrowException() {
+        // Given
+        Long postId = 1L;
+        Post post = createPost(postId);
+        String password = "testPassword";
+
+        given(postRepository.findPasswordById(postId))
+                .willReturn(Optional.of(post.getPassword()), Optional.empty());
+        given(postRepository.softDelete(eq(postId), eq(post.getPassword()), any(LocalDateTime.class))).willReturn(0);
+
+        //When & Then
+        Assertions.assertThatThrownBy(() -> sut.deletePost(postId, password))
+                .isInstanceOf(NoSuchElementException.class);
+        then(postListSnapshot).shouldHaveNoInteractions();
+    }
+
     @DisplayName("삭제 요청시 없는 게시글의 ID를 입력하면, 예외를 발생한다.")
     @Test
     void givenInvalidPostId_whenDeleting_thenThrowException() {
@@ -205,6 +672,24 @@ class PostServiceTest {
                 .isInstanceOf(NoSuchElementException.class);
     }
 
+    private void givenUpdatable(Post post, Post updatedPost) {
+        Long postId = post.getId();
+        given(postRepository.findPasswordById(postId)).willReturn(Optional.of(post.getPassword()));
+        given(postRepository.updatePost(eq(postId), eq(post.getPassword()), any(), any(), any(), any(), any()))
+                .willReturn(1);
+        given(postRepository.findResponseById(postId)).willReturn(Optional.of(PostResponse.from(updatedPost)));
+    }
+
+    private Post createUpdatedPost(Post post, PostRequest request) {
+        Post updatedPost = Post.of(request.name(), post.getPassword(), request.title(), request.content());
+        ReflectionTestUtils.setField(updatedPost, "id", post.getId());
+        return updatedPost;
+    }
+
+    private PostSummaryResponse createSummary(Long postId, LocalDateTime createdDateTime) {
+        return new PostSummaryResponse(postId, "testName", "testTitle", "testContent", createdDateTime);
+    }
+
     private Post createPost(Long postId) {
         Post post = Post.of(
                 "testName",
@@ -0,0 +1,268 @@
+package com.sparta.board.service;
+
+import com.sparta.board.cache.PostBodyCache;
+import com.sparta.board.cache.PostSnapshot;
+import com.sparta.board.config.PostBodyCacheProperties;
+import com.sparta.board.config.PostViewProperties;
+import com.sparta.board.dto.response.PostResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+
+@DisplayName("게시글 조회수 카운터 테스트")
+class PostViewCounterTest {
+    private JdbcTemplate jdbcTemplate;
+    private PostBodyCache postBodyCache;
+    private PostViewCounter sut;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        postBodyCache = spy(new PostBodyCache(
+                new PostBodyCacheProperties(true, 100, Duration.ofMinutes(1), 2048),
+                Jackson2ObjectMapperBuilder.json().build(),
+                new SimpleMeterRegistry()
+        ));
+        sut = new PostViewCounter(
+                jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                postBodyCache,
+                new PostViewProperties(Duration.ofHours(1))
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+    @DisplayName("여러 스레드에서 증가시킨 조회수를 빠짐없이 모은다.")
+    @Test
+    void givenConcurrentViews_whenIncrementing_thenCountAllViews() throws InterruptedException {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    sut.increment(1L);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(sut.pending(1L)).isEqualTo(8000);
+        assertThat(sut.pending(2L)).isZero();
+    }
+
+    @DisplayName("모인 조회수를 한 번의 배치 UPDATE 로 반영하고, 캐시된 게시글은 무효화하지 않는다.")
+    @SuppressWarnings("unchecked")
+    @Test
+    void givenPendingViews_whenFlushing_thenBatchUpdateAndKeepCache() {
+        // Given
+        sut.increment(1L);
+        sut.increment(1L);
+        sut.increment(2L);
+
+        // When
+        int actual = sut.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> batchArgs = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should().batchUpdate(anyString(), batchArgs.capture());
+        assertThat(batchArgs.getValue())
+                .containsExactlyInAnyOrder(new Object[]{2L, 1L}, new Object[]{1L, 2L});
+        assertThat(actual).isEqualTo(2);
+        assertThat(sut.pending(1L)).isZero();
+        then(postBodyCache).should(never()).evict(anyLong());
+    }
+
+    @DisplayName("캐시된 게시글의 조회수는 캐시할 때의 기준점 이후 모인 조회수를 더한다.")
+    @Test
+    void givenCachedPost_whenFlushing_thenCountViewsSinceBaseline() {
+        // Given
+        sut.increment(1L);
+        sut.flush();
+        PostSnapshot snapshot = cache(1L, 11);
+        sut.increment(1L);
+        sut.increment(1L);
+
+        // When
+        sut.flush();
+        sut.increment(1L);
+
+        // Then
+        assertThat(snapshot.viewBaseline()).isEqualTo(1);
+        assertThat(sut.flushedViews(snapshot)).isEqualTo(13);
+        assertThat(sut.views(snapshot)).isEqualTo(14);
+    }
+
+    @DisplayName("캐시할 게시글을 조회하는 중에 같은 게시글의 조회수가 반영되면, 다시 조회해 기준점과 조회수를 맞춘다.")
+    @Test
+    void givenFlushDuringLoad_whenLoading_thenReloadWithFlushedBaseline() {
+        // Given
+        sut.increment(1L);
+        sut.increment(1L);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        // 첫 조회는 조회 중 반영이 커밋되어 반영된 조회수(12)를 읽은 경우
+        PostSnapshot actual = sut.load(1L, () -> {
+            if (loads.incrementAndGet() == 1) {
+                sut.flush();
+            }
+            return createPost(1L, 12);
+        });
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(actual.viewBaseline()).isEqualTo(2);
+        assertThat(sut.views(actual)).isEqualTo(12);
+    }
+
+    @DisplayName("조회수를 반영하는 중에도, 반영하지 않는 게시글은 기다리지 않고 조회한다.")
+    @Test
+    void givenFlushInProgress_whenLoadingOtherPost_thenNotBlocked() {
+        // Given
+        sut.increment(1L);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicReference<PostSnapshot> loaded = new AtomicReference<>();
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+            loaded.set(executor.submit(() -> sut.load(2L, () -> createPost(2L, 5))).get(1, TimeUnit.SECONDS));
+            return new int[]{1};
+        });
+
+        // When
+        sut.flush();
+        executor.shutdown();
+
+        // Then
+        assertThat(loaded.get().post().views()).isEqualTo(5);
+        assertThat(sut.pending(1L)).isZero();
+    }
+
+    @DisplayName("조회가 없던 게시글의 카운터는 제거하고, 캐시된 게시글의 카운터는 기준점을 위해 유지한다.")
+    @Test
+    void givenIdleCounters_whenFlushing_thenRemoveOnlyNotCached() {
+        // Given
+        sut.increment(1L);
+        sut.increment(2L);
+        sut.flush();
+        PostSnapshot snapshot = cache(1L, 1);
+
+        // When
+        sut.flush();
+
+        // Then
+        assertThat(sut.views(snapshot)).isEqualTo(1);
+        assertThat(sut.load(2L, () -> createPost(2L, 1)).viewBaseline()).isZero();
+    }
+
+    @DisplayName("조회가 없던 카운터를 제거하는 중에 증가시킨 조회수도 빠짐없이 반영한다.")
+    @Test
+    void givenRetiringCounters_whenIncrementingConcurrently_thenFlushAllViews() throws InterruptedException {
+        // Given
+        AtomicLong flushedViews = new AtomicLong();
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+            List<Object[]> batchArgs = invocation.getArgument(1);
+            batchArgs.forEach(args -> flushedViews.addAndGet((Long) args[0]));
+            return new int[batchArgs.size()];
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // When
+        // 반영을 쉬지 않고 반복해 카운터 제거 시도가 조회수 증가와 겹치도록 한다.
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 20_000; j++) {
+                    sut.increment((long) (j % 8));
+                }
+            });
+        }
+        executor.shutdown();
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                sut.flush();
+            }
+        });
+        flusher.start();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+        running.set(false);
+        flusher.join();
+        sut.flush();
+
+        // Then
+        assertThat(flushedViews.get()).isEqualTo(80_000);
+    }
+
+    @DisplayName("반영에 실패하면, 조회수를 유지해 다음 반영 때 다시 반영한다.")
+    @Test
+    void givenFailedFlush_whenFlushingAgain_thenKeepPendingViews() {
+        // Given
+        sut.increment(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(new int[]{1});
+
+        // When & Then
+        assertThatThrownBy(() -> sut.flush()).isInstanceOf(QueryTimeoutException.class);
+        assertThat(sut.pending(1L)).isEqualTo(1);
+        assertThat(sut.flush()).isEqualTo(1);
+        assertThat(sut.pending(1L)).isZero();
+    }
+
+    @DisplayName("조회가 없으면 반영하지 않는다.")
+    @Test
+    void givenNoViews_whenFlushing_thenSkipUpdate() {
+        // When
+        int actual = sut.flush();
+
+        // Then
+        assertThat(actual).isZero();
+        then(jdbcTemplate).should(never()).batchUpdate(anyString(), anyList());
+    }
+
+    // 단건 조회와 같이 본문 캐시에 넣고, 캐시된 게시글 반환
+    private PostSnapshot cache(Long postId, long views) {
+        postBodyCache.getOrLoad(postId, () -> sut.load(postId, () -> createPost(postId, views)), sut::flushedViews);
+        return postBodyCache.peekSnapshot(postId);
+    }
+
+    private static PostResponse createPost(Long postId, long views) {
+        return new PostResponse(postId, "testName", "testTitle", "testContent", views, LocalDateTime.now(), null);
+    }
+}
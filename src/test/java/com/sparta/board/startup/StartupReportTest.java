@@ -0,0 +1,38 @@
+package com.sparta.board.startup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("시작 단계별 소요 시간 보고 테스트")
+class StartupReportTest {
+
+    @DisplayName("하위 단계 시간을 뺀 자체 시간이 긴 순서로 시작 단계를 반환한다.")
+    @Test
+    void givenNestedSteps_whenFindingSlowestSteps_thenOrderBySelfTime() throws InterruptedException {
+        // Given
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(16);
+        StartupStep parent = startup.start("spring.beans.instantiate").tag("beanName", "postService");
+        StartupStep child = startup.start("spring.beans.instantiate").tag("beanName", "passwordHasher");
+        Thread.sleep(50);
+        child.end();
+        parent.end();
+        StartupStep other = startup.start("spring.data.repository.scanning");
+        other.end();
+
+        // When
+        List<StartupReport.StepTime> actual = StartupReport.slowestSteps(startup.getBufferedTimeline(), 2);
+
+        // Then
+        assertThat(actual).hasSize(2);
+        assertThat(actual.get(0).tags()).isEqualTo(" [beanName=passwordHasher]");
+        assertThat(actual.get(0).self().toMillis()).isGreaterThanOrEqualTo(50);
+        assertThat(actual.get(1).self()).isLessThan(actual.get(0).self());
+        assertThat(actual).allSatisfy(step -> assertThat(step.self()).isLessThanOrEqualTo(step.total()));
+    }
+}
@@ -0,0 +1,189 @@
+package com.sparta.board.trending;
+
+import com.sparta.board.cache.PostBodyCache;
+import com.sparta.board.cache.PostSnapshot;
+import com.sparta.board.config.PostBodyCacheProperties;
+import com.sparta.board.config.PostTrendingProperties;
+import com.sparta.board.dto.response.PostResponse;
+import com.sparta.board.entity.Post;
+import com.sparta.board.repository.PostRepository;
+import com.sparta.board.service.PostViewCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("인기 게시글 테스트")
+class PostTrendingTest {
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PostBodyCache postBodyCache = new PostBodyCache(
+            new PostBodyCacheProperties(true, 100, Duration.ofMinutes(10), 2048),
+            Jackson2ObjectMapperBuilder.json().build(),
+            meterRegistry
+    );
+    private final PostViewCounter postViewCounter = mock(PostViewCounter.class);
+    private PostTrending sut = createTrending(2, 4);
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+    @DisplayName("조회가 많은 순서로 게시글을 반환하고, 캐시에 없는 게시글만 한 번에 조회한다.")
+    @Test
+    void givenViews_whenRefreshing_thenReturnPostsInFrequencyOrder() {
+        // Given
+        postBodyCache.getOrLoad(1L, () -> new PostSnapshot(PostResponse.from(createPost(1L)), 0), snapshot -> 0);
+        given(postRepository.findAllById(List.of(3L))).willReturn(List.of(createPost(3L)));
+        view(1L, 2);
+        view(2L, 1);
+        view(3L, 3);
+
+        // When
+        sut.refresh();
+
+        // Then
+        assertThat(sut.top(10)).extracting(PostResponse::id).containsExactly(3L, 1L);
+        assertThat(sut.top(1)).extracting(PostResponse::id).containsExactly(3L);
+        then(postRepository).should().findAllById(List.of(3L));
+    }
+
+    @DisplayName("조회 이후 삭제된 게시글은 제외하고, 다음 순위 게시글로 채운다.")
+    @Test
+    void givenDeletedPost_whenRefreshing_thenSkipDeletedPost() {
+        // Given
+        given(postRepository.findAllById(List.of(3L, 1L))).willReturn(List.of(createPost(1L)));
+        given(postRepository.findAllById(List.of(2L))).willReturn(List.of(createPost(2L)));
+        view(1L, 2);
+        view(2L, 1);
+        view(3L, 3);
+
+        // When
+        sut.refresh();
+
+        // Then
+        assertThat(sut.top(10)).extracting(PostResponse::id).containsExactly(1L, 2L);
+    }
+
+    @DisplayName("게시글을 삭제하면, 다음 갱신을 기다리지 않고 목록에서 제외한다.")
+    @Test
+    void givenTrendingPost_whenRemoving_thenExcludeImmediately() {
+        // Given
+        givenPostsExist();
+        view(1L, 2);
+        view(2L, 1);
+        sut.refresh();
+
+        // When
+        sut.remove(1L);
+
+        // Then
+        assertThat(sut.top(10)).extracting(PostResponse::id).containsExactly(2L);
+    }
+
+    @DisplayName("많은 게시글을 조회해도 후보는 최대 후보 수까지만 추적하고, 정리 이후 조회가 많은 게시글이 후보가 된다.")
+    @Test
+    void givenManyPosts_whenRecording_thenBoundCandidates() {
+        // Given
+        givenPostsExist();
+        for (long postId = 1; postId <= 1000; postId++) {
+            sut.record(postId);
+        }
+        view(500L, 5);
+        assertThat(candidates()).isEqualTo(4);
+
+        // When
+        sut.refresh();
+        view(500L, 1);
+        sut.refresh();
+
+        // Then
+        assertThat(candidates()).isLessThanOrEqualTo(4);
+        assertThat(sut.top(1)).extracting(PostResponse::id).containsExactly(500L);
+    }
+
+    @DisplayName("조회 빈도가 감쇠되어, 최근 조회가 많은 게시글이 먼저 온다.")
+    @Test
+    void givenDecay_whenRefreshing_thenRecentViewsRankFirst() {
+        // Given
+        givenPostsExist();
+        view(1L, 4);
+        sut.decay();
+        sut.decay();
+        view(2L, 2);
+
+        // When
+        sut.refresh();
+
+        // Then
+        assertThat(sut.top(10)).extracting(PostResponse::id).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("Count-Min 스케치의 추정 빈도는 실제 빈도보다 작지 않다.")
+    @Test
+    void givenSketch_whenIncrementing_thenEstimateIsNotLessThanActual() {
+        // Given
+        CountMinSketch sketch = new CountMinSketch(16, 4);
+
+        // When
+        for (long key = 0; key < 100; key++) {
+            for (int i = 0; i <= key % 5; i++) {
+                sketch.increment(key);
+            }
+        }
+
+        // Then
+        for (long key = 0; key < 100; key++) {
+            assertThat(sketch.estimate(key)).isGreaterThanOrEqualTo(key % 5 + 1);
+        }
+    }
+
+    private void givenPostsExist() {
+        given(postRepository.findAllById(anyIterable())).willAnswer(invocation -> {
+            List<Post> posts = new ArrayList<>();
+            for (Object postId : (Iterable<?>) invocation.getArgument(0)) {
+                posts.add(createPost((Long) postId));
+            }
+            return posts;
+        });
+    }
+
+    private void view(Long postId, int times) {
+        for (int i = 0; i < times; i++) {
+            sut.record(postId);
+        }
+    }
+
+    private double candidates() {
+        return meterRegistry.get("board.post.trending.candidates").gauge().value();
+    }
+
+    private PostTrending createTrending(int size, int maxCandidates) {
+        return new PostTrending(
+                postRepository,
+                postBodyCache,
+                postViewCounter,
+                new PostTrendingProperties(size, maxCandidates, 1024, 4, Duration.ofHours(1), Duration.ofHours(1)),
+                meterRegistry
+        );
+    }
+
+    private static Post createPost(Long postId) {
+        Post post = Post.of("testName", "testPassword", "testTitle", "testContent");
+        ReflectionTestUtils.setField(post, "id", postId);
+        return post;
+    }
+}
@@ -0,0 +1,14 @@
+-- 복제 DB 테스트용 스키마 (Post 엔티티의 post 테이블과 같은 컬럼, 연결할 때마다 실행)
+create table if not exists post (
+    id bigint not null,
+    name varchar(255),
+    password varchar(255),
+    title varchar(255),
+    content varchar(255),
+    views bigint not null,
+    created_date_time timestamp(6),
+    modified_date_time timestamp(6),
+    deleted boolean not null,
+    deleted_date_time timestamp(6),
+    primary key (id)
+);